@@ -0,0 +1,61 @@
+package com.schedulebob.auth.config;
+
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Mock 서블릿 객체로 JwtAuthenticationFilter.doFilterInternal 한 번의 비용 측정.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  /**
+   * 검증된 토큰 캐시 사용 여부
+   */
+  @Param({"false", "true"})
+  public boolean verifiedCache;
+
+  private JwtAuthenticationFilter filter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+  private final FilterChain filterChain = (req, res) -> { };
+
+  @Setup
+  public void setUp() {
+    JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+    jwtTokenProvider.init();
+    filter = new JwtAuthenticationFilter(jwtTokenProvider,
+        verifiedCache ? new VerifiedTokenCache(1000) : null, null);
+
+    request = new MockHttpServletRequest("GET", "/api/schedules");
+    request.addHeader("Authorization",
+        "Bearer " + jwtTokenProvider.createAccessToken(1L, "bench@schedulebob.com", "employee"));
+    response = new MockHttpServletResponse();
+  }
+
+  /**
+   * 운영에서 요청마다 SecurityContextHolderFilter가 하듯 컨텍스트 정리까지 한 요청으로 측정한다.
+   * Level.Invocation 픽스처는 마이크로초 단위 측정에서 하네스 비용이 결과를 덮으므로 쓰지 않는다.
+   */
+  @Benchmark
+  public void doFilterInternal() throws Exception {
+    try {
+      filter.doFilterInternal(request, response, filterChain);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+}
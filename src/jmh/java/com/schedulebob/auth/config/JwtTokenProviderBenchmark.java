@@ -0,0 +1,58 @@
+package com.schedulebob.auth.config;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtTokenProvider의 토큰 발급/검증 비용 측정.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = new JwtTokenProvider();
+    jwtTokenProvider.init();
+    accessToken = jwtTokenProvider.createAccessToken(1L, "bench@schedulebob.com", "employee");
+  }
+
+  @Benchmark
+  public String createAccessToken() {
+    return jwtTokenProvider.createAccessToken(1L, "bench@schedulebob.com", "employee");
+  }
+
+  @Benchmark
+  public String createRefreshToken() {
+    return jwtTokenProvider.createRefreshToken(1L, "bench@schedulebob.com");
+  }
+
+  /**
+   * 기존 필터 방식: 검증과 클레임 추출을 각각 호출
+   */
+  @Benchmark
+  public void validateTokenAndExtractClaims(Blackhole bh) {
+    bh.consume(jwtTokenProvider.validateToken(accessToken));
+    bh.consume(jwtTokenProvider.getEmail(accessToken));
+    bh.consume(jwtTokenProvider.getRole(accessToken));
+  }
+
+  /**
+   * 한 번의 검증으로 클레임까지 얻는 방식
+   */
+  @Benchmark
+  public JwtPrincipal verify() {
+    return jwtTokenProvider.verify(accessToken);
+  }
+}
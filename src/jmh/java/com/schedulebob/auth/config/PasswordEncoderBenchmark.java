@@ -0,0 +1,43 @@
+package com.schedulebob.auth.config;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 로그인 시 BCryptPasswordEncoder.matches 비용을 cost factor별로 측정.
+ * SecurityConfig의 기본값은 10.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordEncoderBenchmark {
+
+  @Param({"8", "10", "12"})
+  public int strength;
+
+  private BCryptPasswordEncoder passwordEncoder;
+  private String encodedPassword;
+
+  @Setup
+  public void setUp() {
+    passwordEncoder = new BCryptPasswordEncoder(strength);
+    encodedPassword = passwordEncoder.encode("password1234");
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return passwordEncoder.matches("password1234", encodedPassword);
+  }
+}
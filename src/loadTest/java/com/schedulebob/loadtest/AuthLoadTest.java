@@ -0,0 +1,212 @@
+package com.schedulebob.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulebob.ScheduleBobApplication;
+import com.schedulebob.auth.config.JwtTokenProvider;
+import com.schedulebob.auth.session.SessionRecord;
+import com.schedulebob.auth.session.SessionStore;
+import com.schedulebob.global.util.TokenDigests;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로그인, 토큰 재발급, 인증 요청 부하 테스트.
+ * 애플리케이션 전체(SecurityConfig 필터 체인 포함)를 H2(MySQL 모드)로 띄우고,
+ * 사용자 N명을 미리 넣은 뒤 시나리오별로 고정 동시성의 closed-loop 부하를 건다.
+ *
+ * 옵션 (시스템 프로퍼티, gradle loadTest -P 로 전달):
+ * loadtest.users, loadtest.concurrency, loadtest.warmup-seconds, loadtest.duration-seconds,
+ * loadtest.scenarios (login,refresh,me), loadtest.threads (platform | virtual), loadtest.output
+ */
+public class AuthLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(AuthLoadTest.class);
+
+  private static final String PASSWORD = "password1234";
+
+  private final int users = Integer.getInteger("loadtest.users", 1000);
+  private final int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+  private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 5);
+  private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 20);
+  private final List<String> scenarios =
+      List.of(System.getProperty("loadtest.scenarios", "login,refresh,me").split(","));
+  private final String threads = System.getProperty("loadtest.threads", "platform");
+  private final String output = System.getProperty("loadtest.output");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private String baseUrl;
+  private String[] refreshTokens;
+  private String[] accessTokens;
+
+  public static void main(String[] args) throws Exception {
+    new AuthLoadTest().run();
+  }
+
+  private void run() throws Exception {
+    String profiles = "virtual".equals(threads) ? "loadtest,virtual" : "loadtest";
+    ConfigurableApplicationContext context = SpringApplication.run(ScheduleBobApplication.class,
+        "--spring.profiles.active=" + profiles);
+    try {
+      baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+      seed(context);
+
+      List<String> lines = new ArrayList<>();
+      lines.add(String.format("threads=%s users=%d concurrency=%d warmup=%ds duration=%ds",
+          threads, users, concurrency, warmupSeconds, durationSeconds));
+      lines.add(LatencyRecorder.header());
+      for (String scenario : scenarios) {
+        // 로그인 시나리오가 세션을 새 토큰으로 바꾸므로 시나리오마다 토큰과 세션을 다시 준비한다.
+        issueTokens(context);
+        lines.add(measure(scenario.trim(), requestFactory(scenario.trim())));
+      }
+
+      lines.forEach(log::info);
+      if (output != null) {
+        Path path = Path.of(output);
+        Files.createDirectories(path.getParent());
+        Files.write(path, lines);
+      }
+    } finally {
+      context.close();
+    }
+  }
+
+  /**
+   * 사용자 N명을 미리 넣는다.
+   * 비밀번호 해시는 한 번만 계산해 모든 사용자에게 같은 값을 쓴다.
+   */
+  private void seed(ConfigurableApplicationContext context) {
+    String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Object[]> rows = IntStream.rangeClosed(1, users)
+        .mapToObj(id -> new Object[] {(long) id, email(id), passwordHash, "사용자" + id, "employee", now})
+        .toList();
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO users (id, email, password, name, role, joined_at) VALUES (?, ?, ?, ?, ?, ?)",
+        rows);
+    log.info("사용자 {}명을 준비했습니다.", users);
+  }
+
+  /**
+   * 재발급/인증 시나리오용 토큰을 로그인을 거치지 않고 직접 발급하고 세션을 저장한다.
+   */
+  private void issueTokens(ConfigurableApplicationContext context) {
+    JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+    SessionStore sessionStore = context.getBean(SessionStore.class);
+    refreshTokens = new String[users + 1];
+    accessTokens = new String[users + 1];
+    LocalDateTime issuedAt = LocalDateTime.now();
+    new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+      for (int id = 1; id <= users; id++) {
+        refreshTokens[id] = jwtTokenProvider.createRefreshToken((long) id, email(id));
+        accessTokens[id] = jwtTokenProvider.createAccessToken((long) id, email(id), "employee");
+        sessionStore.upsert(new SessionRecord((long) id,
+            TokenDigests.sha256Hex(refreshTokens[id]),
+            issuedAt, issuedAt.plusDays(14)));
+      }
+    });
+  }
+
+  private IntFunction<HttpRequest> requestFactory(String scenario) {
+    return switch (scenario) {
+      case "login" -> id -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(loginBody(id)))
+          .build();
+      case "refresh" -> id -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/refresh-token"))
+          .header("Authorization", "Bearer " + refreshTokens[id])
+          .POST(HttpRequest.BodyPublishers.noBody())
+          .build();
+      case "me" -> id -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/me"))
+          .header("Authorization", "Bearer " + accessTokens[id])
+          .GET()
+          .build();
+      default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+    };
+  }
+
+  /**
+   * 워밍업 후 측정 구간 동안 동시성 수만큼의 작업자가 요청을 반복한다.
+   */
+  private String measure(String scenario, IntFunction<HttpRequest> requests) throws Exception {
+    LatencyRecorder recorder = new LatencyRecorder();
+    drive(requests, recorder, warmupSeconds);
+    recorder.reset();
+
+    long start = System.nanoTime();
+    drive(requests, recorder, durationSeconds);
+    return recorder.report(scenario, System.nanoTime() - start);
+  }
+
+  private void drive(IntFunction<HttpRequest> requests, LatencyRecorder recorder, int seconds)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        workers.submit(() -> {
+          while (System.nanoTime() < deadline) {
+            HttpRequest request = requests.apply(ThreadLocalRandom.current().nextInt(1, users + 1));
+            long begin = System.nanoTime();
+            try {
+              HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+              long elapsed = System.nanoTime() - begin;
+              if (response.statusCode() / 100 == 2) {
+                recorder.recordSuccess(elapsed);
+              } else {
+                recorder.recordFailure(elapsed);
+              }
+            } catch (IOException e) {
+              recorder.recordFailure(System.nanoTime() - begin);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+          }
+        });
+      }
+    }
+  }
+
+  private String loginBody(int id) {
+    try {
+      return objectMapper.writeValueAsString(Map.of("email", email(id), "password", PASSWORD));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String email(int id) {
+    return "loadtest" + id + "@schedulebob.com";
+  }
+}
@@ -0,0 +1,63 @@
+package com.schedulebob.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 한 시나리오의 응답 시간 분포와 실패 수 집계.
+ * HdrHistogram Recorder는 여러 작업 스레드에서 잠금 없이 기록할 수 있다.
+ */
+class LatencyRecorder {
+
+  private final Recorder recorder = new Recorder(3);
+  private final LongAdder failures = new LongAdder();
+
+  void recordSuccess(long elapsedNanos) {
+    recorder.recordValue(elapsedNanos);
+  }
+
+  void recordFailure(long elapsedNanos) {
+    recorder.recordValue(elapsedNanos);
+    failures.increment();
+  }
+
+  /**
+   * 지금까지 기록된 값을 비운다 (워밍업 결과 버리기).
+   */
+  void reset() {
+    recorder.getIntervalHistogram();
+    failures.reset();
+  }
+
+  /**
+   * 측정 구간의 결과 한 줄.
+   *
+   * @param scenario 시나리오 이름
+   * @param elapsedNanos 측정 구간 길이
+   * @return 표 형식 결과
+   */
+  String report(String scenario, long elapsedNanos) {
+    Histogram histogram = recorder.getIntervalHistogram();
+    double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    return String.format("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f",
+        scenario,
+        histogram.getTotalCount(),
+        failures.sum(),
+        histogram.getTotalCount() / seconds,
+        millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+  }
+
+  static String header() {
+    return String.format("%-8s %9s %7s %10s %9s %9s %9s %9s",
+        "scenario", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
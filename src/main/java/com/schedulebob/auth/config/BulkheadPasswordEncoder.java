@@ -0,0 +1,165 @@
+package com.schedulebob.auth.config;
+
+import com.schedulebob.global.exception.CustomException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ *
+ * BCrypt 연산은 CPU를 많이 사용하므로 요청 스레드(Tomcat) 대신 코어 수만큼의 전용 스레드에서 처리하고,
+ * 대기 큐가 가득 차면 기다리지 않고 503(SERVICE_UNAVAILABLE)으로 즉시 실패시킨다.
+ * 작업마다 큐에서 기다린 시간을 auth.password.hashing.wait 타이머에 기록하고, 큐 대기 건수, 실행 중인 작업 수,
+ * 거절 건수를 지표로 등록한다. 대기 시간 백분위는 management.metrics.distribution.percentiles 설정으로 지정한다.
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder {
+
+  /**
+   * 작업별 큐 대기 시간 타이머 이름
+   */
+  public static final String WAIT_TIMER = "auth.password.hashing.wait";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+
+  private final LongAdder rejectedCount = new LongAdder();
+  private final LongAdder startedCount = new LongAdder();
+  private final Timer waitTimer;
+
+  /**
+   * BulkheadPasswordEncoder 생성자.
+   *
+   * @param delegate 실제 해싱을 수행할 PasswordEncoder
+   * @param threads 해싱 전용 스레드 수
+   * @param queueCapacity 대기 큐 최대 크기
+   * @param meterRegistry 지표 레지스트리, null이면 지표를 기록하지 않음
+   */
+  public BulkheadPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    // 하위 레지스트리가 없는 CompositeMeterRegistry는 기록을 모두 버린다.
+    MeterRegistry registry = meterRegistry != null ? meterRegistry : new CompositeMeterRegistry();
+    this.waitTimer = Timer.builder(WAIT_TIMER)
+        .description("해싱 작업이 대기열에서 기다린 시간")
+        .register(registry);
+    Gauge.builder("auth.password.hashing.queue", this, BulkheadPasswordEncoder::queueDepth)
+        .description("비밀번호 해싱 대기 작업 수")
+        .register(registry);
+    Gauge.builder("auth.password.hashing.active", this, BulkheadPasswordEncoder::activeCount)
+        .description("실행 중인 비밀번호 해싱 작업 수")
+        .register(registry);
+    FunctionCounter.builder("auth.password.hashing.rejected", this,
+            BulkheadPasswordEncoder::rejectedCount)
+        .description("대기열이 가득 차 거절된 해싱 요청 수")
+        .register(registry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T submit(Callable<T> task) {
+    long enqueuedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        startedCount.increment();
+        return task.call();
+      });
+    } catch (RejectedExecutionException e) {
+      rejectedCount.increment();
+      throw new CustomException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+          HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("비밀번호 해싱 중 인터럽트가 발생했습니다.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * 현재 큐에서 대기 중인 해싱 작업 수
+   */
+  public int queueDepth() {
+    return executor.getQueue().size();
+  }
+
+  /**
+   * 현재 실행 중인 해싱 작업 수
+   */
+  public int activeCount() {
+    return executor.getActiveCount();
+  }
+
+  /**
+   * 큐가 가득 차서 거절된 작업 수
+   */
+  public long rejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /**
+   * 실행을 시작한 작업 수
+   */
+  public long startedCount() {
+    return startedCount.sum();
+  }
+
+  /**
+   * 스레드 풀 종료 (빈 소멸 시 호출)
+   */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private static final class HashingThreadFactory implements ThreadFactory {
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -1,10 +1,18 @@
 package com.schedulebob.auth.config;
 
+import com.schedulebob.auth.service.TokenRevocationList;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,18 +25,92 @@ import java.io.IOException;
  * 인증 성공 시 SecurityContext에 인증 정보를 설정하여 이후 요청 처리에 반영된다.
  *
  * 이 필터는 Spring Security 필터 체인 내 UsernamePasswordAuthenticationFilter 앞에 배치된다.
+ * 토큰 검증 시간(auth.jwt.parse)과 결과별 요청 수(auth.jwt.requests)를 지표로 남긴다.
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+  /**
+   * 토큰 검증 소요 시간 타이머 이름
+   */
+  public static final String PARSE_TIMER = "auth.jwt.parse";
+
+  /**
+   * 검증 결과별 요청 수 카운터 이름 (outcome 태그로 구분)
+   */
+  public static final String OUTCOME_COUNTER = "auth.jwt.requests";
+
   private final JwtTokenProvider jwtTokenProvider;
 
+  // 검증된 토큰 캐시. 사용하지 않으면 null.
+  private final VerifiedTokenCache verifiedTokenCache;
+
+  // 토큰 폐기 목록. 사용하지 않으면 null.
+  private final TokenRevocationList tokenRevocationList;
+
+  // 요청 경로에서 레지스트리 조회가 일어나지 않도록 미리 등록해 둔 지표
+  private final Timer parseTimer;
+  private final Counter validCounter;
+  private final Counter invalidCounter;
+  private final Counter expiredCounter;
+  private final Counter revokedCounter;
+  private final Counter missingCounter;
+
   /**
    * JwtAuthenticationFilter 생성자.
    *
    * @param jwtTokenProvider JWT 토큰을 생성하고 검증하는 유틸리티 객체
    */
   public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    this(jwtTokenProvider, null, null);
+  }
+
+  /**
+   * 검증된 토큰 캐시와 토큰 폐기 목록을 사용하는 JwtAuthenticationFilter 생성자.
+   *
+   * @param jwtTokenProvider JWT 토큰을 생성하고 검증하는 유틸리티 객체
+   * @param verifiedTokenCache 검증 결과 캐시, 사용하지 않으면 null
+   * @param tokenRevocationList 토큰 폐기 목록, 사용하지 않으면 null
+   */
+  public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+      VerifiedTokenCache verifiedTokenCache,
+      TokenRevocationList tokenRevocationList) {
+    this(jwtTokenProvider, verifiedTokenCache, tokenRevocationList, null);
+  }
+
+  /**
+   * 지표를 기록하는 JwtAuthenticationFilter 생성자.
+   *
+   * @param jwtTokenProvider JWT 토큰을 생성하고 검증하는 유틸리티 객체
+   * @param verifiedTokenCache 검증 결과 캐시, 사용하지 않으면 null
+   * @param tokenRevocationList 토큰 폐기 목록, 사용하지 않으면 null
+   * @param meterRegistry 지표 레지스트리, null이면 지표를 기록하지 않음
+   */
+  public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+      VerifiedTokenCache verifiedTokenCache,
+      TokenRevocationList tokenRevocationList,
+      MeterRegistry meterRegistry) {
     this.jwtTokenProvider = jwtTokenProvider;
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.tokenRevocationList = tokenRevocationList;
+
+    // 하위 레지스트리가 없는 CompositeMeterRegistry는 기록을 모두 버린다.
+    MeterRegistry registry = meterRegistry != null ? meterRegistry : new CompositeMeterRegistry();
+    this.parseTimer = Timer.builder(PARSE_TIMER)
+        .description("JWT 서명 검증 및 클레임 추출 시간 (캐시 적중 포함)")
+        .tag("cache", String.valueOf(verifiedTokenCache != null))
+        .register(registry);
+    this.validCounter = outcome(registry, "valid");
+    this.invalidCounter = outcome(registry, "invalid");
+    this.expiredCounter = outcome(registry, "expired");
+    this.revokedCounter = outcome(registry, "revoked");
+    this.missingCounter = outcome(registry, "missing");
+  }
+
+  private static Counter outcome(MeterRegistry registry, String outcome) {
+    return Counter.builder(OUTCOME_COUNTER)
+        .description("JWT 인증 필터 결과별 요청 수")
+        .tag("outcome", outcome)
+        .register(registry);
   }
 
   /**
@@ -49,23 +131,63 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String token = resolveToken(request);
 
     // 토큰이 존재하고 유효하면 인증 정보를 설정한다.
-    if (token != null && jwtTokenProvider.validateToken(token)) {
-      String email = jwtTokenProvider.getEmail(token);
-      String role = jwtTokenProvider.getRole(token);
-
-      //실제 인증 객체 생성 및 SecurityContext에 등록
-      SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role);
-      UsernamePasswordAuthenticationToken authentication =
-          new UsernamePasswordAuthenticationToken(email, null, List.of(authority));
+    if (token == null) {
+      missingCounter.increment();
+    } else {
+      JwtPrincipal principal = verify(token);
 
-      SecurityContextHolder.getContext().setAuthentication(authentication);
+      // Refresh Token에는 role 클레임이 없으므로 인증에 사용하지 않는다.
+      // 캐시 적중 여부와 관계없이 폐기 여부는 매번 확인한다.
+      if (principal != null && principal.getRole() == null) {
+        invalidCounter.increment();
+      } else if (principal != null && isRevoked(principal)) {
+        revokedCounter.increment();
+      } else if (principal != null) {
+        validCounter.increment();
+        //실제 인증 객체 생성 및 SecurityContext에 등록
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(principal.getRole());
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(principal.getSubject(), null, List.of(authority));
+        // 로그아웃 등에서 토큰 ID를 사용할 수 있도록 검증된 클레임을 details에 보관한다.
+        authentication.setDetails(principal);
 
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+      }
     }
 
     // 다음 필터로 요청을 넘긴다.
     filterChain.doFilter(request, response);
   }
 
+  /**
+   * 토큰 서명을 한 번만 검증하여 클레임을 얻는다.
+   * 캐시가 설정되어 있으면 이미 검증된 토큰은 캐시에서 바로 반환한다.
+   *
+   * @param token JWT 토큰 문자열
+   * @return 검증된 클레임, 유효하지 않은 토큰이면 null
+   */
+  private JwtPrincipal verify(String token) {
+    long start = System.nanoTime();
+    try {
+      if (verifiedTokenCache != null) {
+        return verifiedTokenCache.get(token, jwtTokenProvider::verify);
+      }
+      return jwtTokenProvider.verify(token);
+    } catch (ExpiredJwtException e) {
+      expiredCounter.increment();
+      return null;
+    } catch (JwtException | IllegalArgumentException e) {
+      invalidCounter.increment();
+      return null;
+    } finally {
+      parseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private boolean isRevoked(JwtPrincipal principal) {
+    return tokenRevocationList != null && tokenRevocationList.isRevoked(principal);
+  }
+
   /**
    * HTTP 요청의 Authorization 헤더에서 "Bearer " 접두어를 가진 JWT 토큰을 추출한다.
    *
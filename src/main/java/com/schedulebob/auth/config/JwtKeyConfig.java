@@ -0,0 +1,36 @@
+package com.schedulebob.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * JWT 서명 키 묶음 설정.
+ * SecurityConfig가 JwtTokenProvider를 주입받으므로 순환 참조를 피하기 위해 별도 설정으로 둔다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtSigningProperties.class)
+@ImportRuntimeHints(JwtRuntimeHints.class)
+public class JwtKeyConfig {
+
+  /**
+   * JWT 서명 키 묶음 빈 등록.
+   * jwt.signing.keys가 비어 있으면 임시 키를 생성한다. 이 경우 재시작 시 기존 토큰이 모두 무효가 되고
+   * 노드마다 키가 다르므로, 다중 노드 환경에서는 반드시 키를 설정해야 한다.
+   *
+   * @param properties jwt.signing 설정
+   * @return JwtKeyRing 인스턴스
+   */
+  @Bean
+  public JwtKeyRing jwtKeyRing(JwtSigningProperties properties) {
+    if (properties.getKeys().isEmpty()) {
+      JwtKeyRing keyRing = JwtKeyRing.ephemeral();
+      log.warn("jwt.signing.keys가 설정되지 않아 임시 서명 키({})를 사용합니다.", keyRing.getActiveKid());
+      return keyRing;
+    }
+    return JwtKeyRing.from(properties);
+  }
+}
@@ -0,0 +1,164 @@
+package com.schedulebob.auth.config;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * ES256(P-256) 서명 키 묶음.
+ * 서명용 활성 키 하나와, kid로 찾는 검증용 공개 키 맵(활성 + 퇴역 키)을 생성 시점에 고정한다.
+ * 검증 경로에서는 불변 맵 조회만 일어나므로 잠금 없이 여러 스레드에서 사용할 수 있다.
+ */
+public class JwtKeyRing {
+
+  private static final int P256_COORDINATE_BYTES = 32;
+
+  private final String activeKid;
+  private final PrivateKey signingKey;
+  private final Map<String, PublicKey> verificationKeys;
+  private final Map<String, Object> jwks;
+
+  private JwtKeyRing(String activeKid, PrivateKey signingKey,
+      Map<String, PublicKey> verificationKeys) {
+    if (!verificationKeys.containsKey(activeKid)) {
+      throw new IllegalStateException("활성 키의 공개 키가 없습니다: " + activeKid);
+    }
+    this.activeKid = activeKid;
+    this.signingKey = signingKey;
+    this.verificationKeys = Map.copyOf(verificationKeys);
+    this.jwks = buildJwks(verificationKeys);
+  }
+
+  /**
+   * 설정된 키로 키 묶음 생성.
+   *
+   * @param properties jwt.signing 설정
+   * @return 키 묶음
+   * @throws IllegalStateException 활성 키가 없거나 키 형식이 올바르지 않은 경우
+   */
+  public static JwtKeyRing from(JwtSigningProperties properties) {
+    String activeKid = properties.getActiveKid();
+    JwtSigningProperties.Key active = properties.getKeys().get(activeKid);
+    if (active == null || active.getPrivateKey() == null || active.getPrivateKey().isBlank()) {
+      throw new IllegalStateException("jwt.signing.active-kid에 해당하는 개인 키가 없습니다: " + activeKid);
+    }
+
+    Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+    properties.getKeys().forEach((kid, key) -> verificationKeys.put(kid, decodePublicKey(kid, key)));
+    return new JwtKeyRing(activeKid, decodePrivateKey(activeKid, active), verificationKeys);
+  }
+
+  /**
+   * 임시 키 묶음 생성. 프로세스마다 키가 달라지므로 단일 노드 개발/테스트에서만 사용한다.
+   *
+   * @return 새로 생성한 키 하나로 이루어진 키 묶음
+   */
+  public static JwtKeyRing ephemeral() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+      generator.initialize(new ECGenParameterSpec("secp256r1"));
+      KeyPair keyPair = generator.generateKeyPair();
+      String kid = "ephemeral-" + UUID.randomUUID();
+      return new JwtKeyRing(kid, keyPair.getPrivate(), Map.of(kid, keyPair.getPublic()));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 새 토큰 헤더에 넣을 kid
+   */
+  public String getActiveKid() {
+    return activeKid;
+  }
+
+  /**
+   * 새 토큰 서명용 개인 키
+   */
+  public PrivateKey getSigningKey() {
+    return signingKey;
+  }
+
+  /**
+   * kid에 해당하는 검증용 공개 키 조회
+   *
+   * @param kid 토큰 헤더의 키 ID
+   * @return 공개 키, 모르는 kid이면 null
+   */
+  public PublicKey findVerificationKey(String kid) {
+    return kid == null ? null : verificationKeys.get(kid);
+  }
+
+  /**
+   * 검증용 공개 키 전체를 담은 JWK Set (RFC 7517)
+   */
+  public Map<String, Object> getJwks() {
+    return jwks;
+  }
+
+  private static Map<String, Object> buildJwks(Map<String, PublicKey> keys) {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    List<Map<String, Object>> jwkList = new ArrayList<>();
+    keys.forEach((kid, key) -> {
+      ECPublicKey ecKey = (ECPublicKey) key;
+      Map<String, Object> jwk = new LinkedHashMap<>();
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("use", "sig");
+      jwk.put("alg", "ES256");
+      jwk.put("kid", kid);
+      jwk.put("x", encoder.encodeToString(coordinate(ecKey.getW().getAffineX())));
+      jwk.put("y", encoder.encodeToString(coordinate(ecKey.getW().getAffineY())));
+      jwkList.add(Map.copyOf(jwk));
+    });
+    return Map.of("keys", List.copyOf(jwkList));
+  }
+
+  // BigInteger 바이트 배열은 부호 바이트가 붙거나 앞자리 0이 빠질 수 있으므로 32바이트로 맞춘다.
+  private static byte[] coordinate(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    byte[] fixed = new byte[P256_COORDINATE_BYTES];
+    int length = Math.min(bytes.length, P256_COORDINATE_BYTES);
+    System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_BYTES - length, length);
+    return fixed;
+  }
+
+  private static PublicKey decodePublicKey(String kid, JwtSigningProperties.Key key) {
+    if (key.getPublicKey() == null || key.getPublicKey().isBlank()) {
+      throw new IllegalStateException("공개 키가 없습니다: " + kid);
+    }
+    try {
+      PublicKey publicKey = KeyFactory.getInstance("EC")
+          .generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(key.getPublicKey())));
+      if (((ECPublicKey) publicKey).getParams().getCurve().getField().getFieldSize() != 256) {
+        throw new IllegalStateException("P-256 키가 아닙니다: " + kid);
+      }
+      return publicKey;
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalStateException("공개 키 형식이 올바르지 않습니다: " + kid, e);
+    }
+  }
+
+  private static PrivateKey decodePrivateKey(String kid, JwtSigningProperties.Key key) {
+    try {
+      return KeyFactory.getInstance("EC")
+          .generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(key.getPrivateKey())));
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      throw new IllegalStateException("개인 키 형식이 올바르지 않습니다: " + kid, e);
+    }
+  }
+}
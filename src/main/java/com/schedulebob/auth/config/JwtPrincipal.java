@@ -0,0 +1,44 @@
+package com.schedulebob.auth.config;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 통과한 JWT의 클레임을 담는 불변 객체.
+ * 한 번의 파싱 결과를 필터와 서비스 계층에서 재사용하기 위해 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+
+  /**
+   * 토큰 고유 ID (jti). 토큰 폐기 시 식별자로 사용
+   */
+  private final String tokenId;
+
+  /**
+   * 사용자 ID (uid 클레임)
+   */
+  private final Long userId;
+
+  /**
+   * 토큰 Subject (사용자 이메일)
+   */
+  private final String subject;
+
+  /**
+   * 사용자 권한. Refresh Token에는 포함되지 않으므로 null일 수 있음.
+   */
+  private final String role;
+
+  /**
+   * 토큰 발급 일시
+   */
+  private final Instant issuedAt;
+
+  /**
+   * 토큰 만료 일시
+   */
+  private final Instant expiration;
+}
@@ -0,0 +1,33 @@
+package com.schedulebob.auth.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * 네이티브 이미지 빌드용 jjwt 리플렉션 힌트.
+ * jjwt-api는 구현 클래스를 이름으로 찾아 생성하므로 정적 분석으로는 발견되지 않는다.
+ */
+class JwtRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final String[] IMPLEMENTATION_TYPES = {
+      "io.jsonwebtoken.impl.DefaultJwtBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+      "io.jsonwebtoken.impl.DefaultJwtParser",
+      "io.jsonwebtoken.impl.DefaultHeader",
+      "io.jsonwebtoken.impl.DefaultJwsHeader",
+      "io.jsonwebtoken.impl.DefaultClaims",
+      "io.jsonwebtoken.jackson.io.JacksonSerializer",
+      "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+  };
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    for (String type : IMPLEMENTATION_TYPES) {
+      hints.reflection().registerType(TypeReference.of(type),
+          MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+    hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+  }
+}
@@ -0,0 +1,50 @@
+package com.schedulebob.auth.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JWT 서명 키 설정 (jwt.signing.*).
+ * 키는 kid별로 등록하며, 서명에 사용할 키는 active-kid로 지정한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+  /**
+   * 새 토큰 서명에 사용할 키 ID
+   */
+  private String activeKid;
+
+  /**
+   * kid별 키 목록. 퇴역한 키는 공개 키만 남겨 기존 토큰 검증에만 사용한다.
+   */
+  private Map<String, Key> keys = new LinkedHashMap<>();
+
+  /**
+   * JWKS 응답의 Cache-Control max-age(초)
+   */
+  private long jwksMaxAgeSeconds = 300;
+
+  /**
+   * 단일 키 설정.
+   */
+  @Getter
+  @Setter
+  public static class Key {
+
+    /**
+     * P-256 공개 키 (X.509 DER, Base64)
+     */
+    private String publicKey;
+
+    /**
+     * P-256 개인 키 (PKCS#8 DER, Base64). 서명에 쓰지 않는 키는 비워 둔다.
+     */
+    private String privateKey;
+  }
+}
@@ -1,23 +1,27 @@
 package com.schedulebob.auth.config;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
-import java.util.Base64;
+import java.security.Key;
 import java.util.Date;
-import javax.crypto.SecretKey;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 유틸리티 클래스.
  * Access Token, Refresh Token 모두 처리.
+ * 모든 토큰에는 폐기(revocation) 식별을 위한 고유 ID(jti)가 포함된다.
+ * 토큰은 ES256으로 서명하고 헤더의 kid로 검증 키를 찾으므로, 공개 키만 있으면 어디서든 검증할 수 있다.
  */
 @Component
 public class JwtTokenProvider {
 
-  // 시크릿 키 (실제 환경에서는 외부 설정이나 환경변수(yml 등)에서 주입 권장)
-  private String secretKey = "REPLACE_WITH_A_STRONG_SECRET_KEY_EXAMPLE_!1234567890";
+  // 사용자 ID 클레임. 재발급 시 이메일 조회 없이 세션을 찾기 위해 사용한다.
+  private static final String USER_ID_CLAIM = "uid";
+
+  private static final String ROLE_CLAIM = "role";
 
   // Access Token 만료 시간 (예시: 30분)
   private long accessTokenValidity = 1000L * 60 * 30;
@@ -25,70 +29,117 @@ public class JwtTokenProvider {
   // Refresh Token 만료 시간 (예시: 14일)
   private long refreshTokenValidity = 1000L * 60 * 60 * 24 * 14;
 
-  private SecretKey key;
+  // 서명 키(활성 키)와 kid별 검증 키
+  private final JwtKeyRing keyRing;
+
+  // 키 묶음에서 kid로 검증 키를 찾는 불변 파서. 스레드 안전하므로 init()에서 한 번만 생성해 재사용한다.
+  private JwtParser jwtParser;
+
+  /**
+   * 임시 키로 동작하는 프로바이더 (벤치마크, 단위 테스트용)
+   */
+  public JwtTokenProvider() {
+    this(JwtKeyRing.ephemeral());
+  }
+
+  @Autowired
+  public JwtTokenProvider(JwtKeyRing keyRing) {
+    this.keyRing = keyRing;
+  }
 
   @PostConstruct
   protected void init() {
-    // secretKey를 Base64로 인코딩 (jjwt 0.11.x 이상은 SecretKey 필요)
-    byte[] keyBytes = Base64.getEncoder().encode(secretKey.getBytes());
-    this.key = Keys.hmacShaKeyFor(keyBytes);
+    this.jwtParser = Jwts.parserBuilder()
+        .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+          @Override
+          public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            Key key = keyRing.findVerificationKey(header.getKeyId());
+            if (key == null) {
+              throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + header.getKeyId());
+            }
+            return key;
+          }
+        })
+        .build();
   }
 
   /**
-   * 사용자 이메일 및 역할을 포함하는 AccessToken 발급
+   * Access Token 유효 시간(ms)
    */
-  public String createAccessToken(String email, String role) {
+  public long getAccessTokenValidity() {
+    return accessTokenValidity;
+  }
+
+  /**
+   * 사용자 ID, 이메일 및 역할을 포함하는 AccessToken 발급
+   */
+  public String createAccessToken(Long userId, String email, String role) {
     Claims claims = Jwts.claims().setSubject(email);
-    claims.put("role", role);
+    claims.put(USER_ID_CLAIM, userId);
+    claims.put(ROLE_CLAIM, role);
 
     Date now = new Date();
     Date expiry = new Date(now.getTime() + accessTokenValidity);
 
     return Jwts.builder()
+        .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
         .setClaims(claims)
+        .setId(UUID.randomUUID().toString())
         .setIssuedAt(now)
         .setExpiration(expiry)
-        .signWith(key, SignatureAlgorithm.HS256)
+        .signWith(keyRing.getSigningKey(), SignatureAlgorithm.ES256)
         .compact();
   }
 
   /**
-   * 사용자 식별자만 포함하는 RefreshToken 발급
+   * 사용자 식별자(ID, 이메일)만 포함하는 RefreshToken 발급
    */
-  public String createRefreshToken(String email) {
+  public String createRefreshToken(Long userId, String email) {
     Date now = new Date();
     Date expiry = new Date(now.getTime() + refreshTokenValidity);
 
     return Jwts.builder()
+        .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
         .setSubject(email)
+        .claim(USER_ID_CLAIM, userId)
+        .setId(UUID.randomUUID().toString())
         .setIssuedAt(now)
         .setExpiration(expiry)
-        .signWith(key, SignatureAlgorithm.HS256)
+        .signWith(keyRing.getSigningKey(), SignatureAlgorithm.ES256)
         .compact();
   }
 
+  /**
+   * 토큰의 서명과 만료를 한 번만 검증하고, 필요한 클레임을 불변 객체로 반환.
+   *
+   * @param token JWT 문자열
+   * @return 검증된 토큰의 클레임
+   * @throws JwtException 서명 불일치, 만료 등 유효하지 않은 토큰인 경우
+   * @throws IllegalArgumentException 토큰이 비어 있는 경우
+   */
+  public JwtPrincipal verify(String token) {
+    Claims claims = jwtParser.parseClaimsJws(token).getBody();
+    return new JwtPrincipal(
+        claims.getId(),
+        claims.get(USER_ID_CLAIM, Long.class),
+        claims.getSubject(),
+        claims.get(ROLE_CLAIM, String.class),
+        claims.getIssuedAt().toInstant(),
+        claims.getExpiration().toInstant());
+  }
+
   /**
    * JWT 토큰에서 이메일(Subject) 추출
    */
   public String getEmail(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getSubject();
+    return verify(token).getSubject();
   }
 
   /**
    * JWT 토큰에서 역할(Claims) 추출
    */
   public String getRole(String token) {
-    Claims claims = Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
-    return claims.get("role", String.class);
+    return verify(token).getRole();
   }
 
   /**
@@ -96,7 +147,7 @@ public class JwtTokenProvider {
    */
   public boolean validateToken(String token) {
     try {
-      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+      verify(token);
       return true;
     } catch (JwtException | IllegalArgumentException e) {
       return false;
@@ -107,11 +158,6 @@ public class JwtTokenProvider {
    * 토큰 만료시간 조회
    */
   public Date getExpiration(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getExpiration();
+    return Date.from(verify(token).getExpiration());
   }
-}
\ No newline at end of file
+}
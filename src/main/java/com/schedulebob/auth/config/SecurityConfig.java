@@ -1,12 +1,20 @@
 package com.schedulebob.auth.config;
 
+import com.schedulebob.auth.service.TokenRevocationList;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -24,26 +32,82 @@ public class SecurityConfig {
    */
   private final JwtTokenProvider jwtTokenProvider;
 
+  /**
+   * 검증된 토큰 캐시의 최대 항목 수.
+   */
+  @Value("${jwt.verified-cache.max-size:10000}")
+  private int verifiedCacheMaxSize;
+
+  /**
+   * 검증된 토큰 캐시 빈 등록.
+   * jwt.verified-cache.enabled=true 인 경우에만 등록되며,
+   * 등록되지 않으면 필터는 매 요청마다 서명을 검증한다.
+   *
+   * @param meterRegistry 캐시 적중/미스 지표 등록용 레지스트리
+   * @return VerifiedTokenCache 인스턴스
+   */
+  @Bean
+  @ConditionalOnProperty(name = "jwt.verified-cache.enabled", havingValue = "true")
+  public VerifiedTokenCache verifiedTokenCache(MeterRegistry meterRegistry) {
+    VerifiedTokenCache cache = new VerifiedTokenCache(verifiedCacheMaxSize);
+    FunctionCounter.builder("auth.jwt.cache.gets", cache, VerifiedTokenCache::hitCount)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder("auth.jwt.cache.gets", cache, VerifiedTokenCache::missCount)
+        .tag("result", "miss")
+        .register(meterRegistry);
+    FunctionCounter.builder("auth.jwt.cache.evictions", cache, VerifiedTokenCache::evictionCount)
+        .register(meterRegistry);
+    Gauge.builder("auth.jwt.cache.size", cache, VerifiedTokenCache::size)
+        .register(meterRegistry);
+    return cache;
+  }
+
   /**
    * JWT 인증 필터 빈 등록.
    * SecurityFilterChain에서 이 필터를 사용해 JWT 토큰의 유효성을 검증한다.
    *
+   * @param verifiedTokenCache 검증된 토큰 캐시 (비활성화 시 없음)
+   * @param tokenRevocationList 토큰 폐기 목록
+   * @param meterRegistry 검증 시간과 결과별 요청 수 지표 등록용 레지스트리
    * @return JwtAuthenticationFilter 인스턴스
    */
   @Bean
-  public JwtAuthenticationFilter jwtAuthenticationFilter() {
-    return new JwtAuthenticationFilter(jwtTokenProvider);
+  public JwtAuthenticationFilter jwtAuthenticationFilter(
+      ObjectProvider<VerifiedTokenCache> verifiedTokenCache,
+      TokenRevocationList tokenRevocationList,
+      MeterRegistry meterRegistry) {
+    return new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache.getIfAvailable(),
+        tokenRevocationList, meterRegistry);
   }
 
+  /**
+   * 비밀번호 해싱 전용 스레드 수. 0이면 CPU 코어 수를 사용한다.
+   */
+  @Value("${auth.password-hashing.threads:0}")
+  private int passwordHashingThreads;
+
+  /**
+   * 비밀번호 해싱 대기 큐 최대 크기.
+   */
+  @Value("${auth.password-hashing.queue-capacity:100}")
+  private int passwordHashingQueueCapacity;
+
   /**
    * PasswordEncoder 빈 등록.
    * BCrypt 기반 암호화 방식을 사용하여 비밀번호를 안전하게 처리한다.
+   * 해싱은 요청 스레드가 아닌 전용 스레드 풀에서 실행된다.
    *
+   * @param meterRegistry 해싱 대기 시간, 대기열 지표 등록용 레지스트리
    * @return PasswordEncoder 인스턴스
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public BulkheadPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+    int threads = passwordHashingThreads > 0
+        ? passwordHashingThreads
+        : Runtime.getRuntime().availableProcessors();
+    return new BulkheadPasswordEncoder(new BCryptPasswordEncoder(), threads,
+        passwordHashingQueueCapacity, meterRegistry);
   }
 
   /**
@@ -51,24 +115,37 @@ public class SecurityConfig {
    * CSRF 비활성화, 인증이 필요 없는 URL 설정 및 JWT 인증 필터 등록을 수행한다.
    *
    * @param http HttpSecurity 객체
+   * @param jwtAuthenticationFilter JWT 인증 필터
    * @return SecurityFilterChain 구성된 필터 체인
    * @throws Exception 예외 발생 시 던짐
    */
   @Bean
-  public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain filterChain(HttpSecurity http,
+      JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
     http
         // JWT 기반 인증을 사용하므로 CSRF는 비활성화
         .csrf().disable()
 
         // 요청별 권한 설정, 인증 없이 접근 허용할 엔드포인트 지정
         .authorizeHttpRequests(authz -> authz
+                // SSE 응답 종료 시의 ASYNC 디스패치는 최초 요청에서 이미 인가를 마쳤다
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers("/api/auth/logout", "/api/auth/me").authenticated()
+                .requestMatchers("/api/auth/users/**").hasAuthority("admin")
+                // 근무 조회 대상 제한(본인, 같은 매장 직원, 관리자)은 ShiftService에서 확인한다
+                .requestMatchers(HttpMethod.GET, "/api/shifts/**").authenticated()
+                .requestMatchers("/api/shifts/**").hasAuthority("admin")
+                .requestMatchers("/api/availability/**").authenticated()
+                .requestMatchers("/api/stores/*/available-workers").hasAuthority("admin")
+                .requestMatchers("/api/stores/*/weeks/*").authenticated()
+                .requestMatchers("/api/stores/*/shift-events").authenticated()
                 .anyRequest().permitAll()
 //                .requestMatchers("/api/auth/**").permitAll()
             // .anyRequest().authenticated() // 필요 시 인증 요구
         )
 
         // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 전에 실행
-        .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
   }
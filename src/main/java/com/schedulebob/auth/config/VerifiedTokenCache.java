@@ -0,0 +1,161 @@
+package com.schedulebob.auth.config;
+
+import com.schedulebob.global.util.TokenDigests;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임을 보관하는 크기 제한 캐시.
+ * 토큰 다이제스트를 키로 사용하며, 각 항목은 토큰의 만료 시각(exp)에 함께 만료된다.
+ * 캐시 적중 시 Base64 디코딩, JSON 파싱, 서명 검증을 모두 생략한다.
+ *
+ * 조회는 ConcurrentHashMap 위에서 잠금 없이 수행되고,
+ * 최대 크기에 도달했을 때의 정리 작업만 하나의 스레드가 담당한다.
+ */
+public class VerifiedTokenCache {
+
+  private final ConcurrentHashMap<DigestKey, CachedPrincipal> entries;
+  private final int maxSize;
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * VerifiedTokenCache 생성자.
+   *
+   * @param maxSize 보관할 최대 토큰 수
+   */
+  public VerifiedTokenCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive");
+    }
+    this.maxSize = maxSize;
+    this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+  }
+
+  /**
+   * 캐시된 클레임을 반환하고, 없으면 verifier로 검증한 결과를 캐시에 저장한다.
+   * verifier가 던진 예외는 그대로 전달되며 실패한 토큰은 캐시하지 않는다.
+   *
+   * @param token JWT 문자열
+   * @param verifier 캐시 미스 시 서명을 검증할 함수
+   * @return 검증된 토큰의 클레임
+   */
+  public JwtPrincipal get(String token, Function<String, JwtPrincipal> verifier) {
+    DigestKey key = new DigestKey(TokenDigests.sha256(token));
+    long now = System.currentTimeMillis();
+
+    CachedPrincipal cached = entries.get(key);
+    if (cached != null) {
+      if (cached.expiresAt > now) {
+        hits.increment();
+        return cached.principal;
+      }
+      entries.remove(key, cached);
+    }
+
+    misses.increment();
+    JwtPrincipal principal = verifier.apply(token);
+    long expiresAt = principal.getExpiration().toEpochMilli();
+    if (expiresAt > now && ensureCapacity(now)) {
+      entries.put(key, new CachedPrincipal(principal, expiresAt));
+    }
+    return principal;
+  }
+
+  /**
+   * 새 항목을 넣을 공간을 확보한다.
+   * 가득 찬 경우 만료된 항목을 먼저 지우고, 그래도 부족하면 임의의 항목을 내보낸다.
+   * 다른 스레드가 정리 중이면 기다리지 않고 이번 항목을 캐시하지 않는다.
+   *
+   * @return 항목을 저장해도 되면 true
+   */
+  private boolean ensureCapacity(long now) {
+    if (entries.size() < maxSize) {
+      return true;
+    }
+    if (!evictionLock.tryLock()) {
+      return false;
+    }
+    try {
+      entries.values().removeIf(entry -> entry.expiresAt <= now);
+
+      // 잦은 정리를 피하기 위해 최대 크기의 90%까지 비운다.
+      int target = maxSize - Math.max(1, maxSize / 10);
+      Iterator<Map.Entry<DigestKey, CachedPrincipal>> it = entries.entrySet().iterator();
+      while (entries.size() > target && it.hasNext()) {
+        it.next();
+        it.remove();
+        evictions.increment();
+      }
+      return entries.size() < maxSize;
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * 현재 캐시된 토큰 수
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * 캐시 적중 횟수
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * 캐시 미스 횟수
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * 용량 초과로 내보낸 항목 수 (만료로 제거된 항목 제외)
+   */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  private static final class CachedPrincipal {
+    private final JwtPrincipal principal;
+    private final long expiresAt;
+
+    private CachedPrincipal(JwtPrincipal principal, long expiresAt) {
+      this.principal = principal;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private static final class DigestKey {
+    private final byte[] digest;
+    private final int hash;
+
+    private DigestKey(byte[] digest) {
+      this.digest = digest;
+      this.hash = Arrays.hashCode(digest);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof DigestKey other && Arrays.equals(digest, other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -1,11 +1,17 @@
 package com.schedulebob.auth.controller;
 
+import com.schedulebob.auth.config.JwtPrincipal;
 import com.schedulebob.auth.dto.LoginRequest;
 import com.schedulebob.auth.dto.LoginResponse;
+import com.schedulebob.auth.dto.UserInfoResponse;
 import com.schedulebob.auth.service.AuthService;
+import com.schedulebob.auth.service.LoginRateLimiter;
+import com.schedulebob.auth.service.RefreshTokenCoalescer;
 import com.schedulebob.global.exception.CustomException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,23 +25,35 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
   private final AuthService authService;
+  private final RefreshTokenCoalescer refreshTokenCoalescer;
+  private final LoginRateLimiter loginRateLimiter;
 
   /**
    * 로그인 엔드포인트
+   * DB 조회와 비밀번호 비교 전에 이메일/IP별 요청 제한을 먼저 확인한다.
+   * 클라이언트 IP는 getRemoteAddr()로 읽는다. 로드밸런서 뒤에서는 Tomcat RemoteIpValve가
+   * 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)에서 온 요청에 한해 X-Forwarded-For의 원래 주소로 바꿔 준다
+   * (server.forward-headers-strategy=native).
+   *
    * @param request LoginRequest (이메일, 비밀번호)
+   * @param httpRequest 클라이언트 IP 확인용 HTTP 요청
    * @return LoginResponse (Access/Refresh Token)
-   * @throws CustomException 인증 실패시 예외 발생
+   * @throws CustomException 인증 실패시 예외 발생, 요청 제한 초과 시 429
    *
    * - Swagger 적용 시 @ApiOperation, @ApiResponses 등 어노테이션 병행 가능
    */
   @PostMapping("/login")
-  public ResponseEntity<LoginResponse> login(@Validated @RequestBody LoginRequest request) {
+  public ResponseEntity<LoginResponse> login(@Validated @RequestBody LoginRequest request,
+      HttpServletRequest httpRequest) {
+    loginRateLimiter.check(request.getEmail(), httpRequest.getRemoteAddr());
+
     LoginResponse response = authService.login(request);
     return ResponseEntity.ok(response);
   }
 
   /**
    * Refresh Token을 이용한 Access Token 재발급 API
+   * 같은 토큰으로 동시에 들어온 요청은 하나의 재발급 결과를 공유한다.
    *
    * @param refreshToken Refresh 토큰 (Authorization 헤더 또는 별도 파라미터로 전달 가능)
    * @return 새로 발급된 Access Token
@@ -47,10 +65,50 @@ public class AuthController {
     }
 
     String token = refreshToken.substring(7);
-    String newAccessToken = authService.refreshAccessToken(token);
+    String newAccessToken = refreshTokenCoalescer.refresh(token);
     return ResponseEntity.ok().body(new AccessTokenResponse(newAccessToken));
   }
 
+  /**
+   * 로그아웃 API
+   * 현재 Access Token을 폐기하고 세션을 삭제한다.
+   *
+   * @param authentication JwtAuthenticationFilter가 설정한 인증 정보
+   * @return 204 No Content
+   */
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(Authentication authentication) {
+    authService.logout((JwtPrincipal) authentication.getDetails());
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * 현재 사용자 정보 조회 API
+   * JwtAuthenticationFilter가 검증한 Access Token 클레임을 그대로 반환한다.
+   *
+   * @param authentication JwtAuthenticationFilter가 설정한 인증 정보
+   * @return 사용자 ID, 이메일, 권한
+   */
+  @GetMapping("/me")
+  public ResponseEntity<UserInfoResponse> me(Authentication authentication) {
+    JwtPrincipal principal = (JwtPrincipal) authentication.getDetails();
+    return ResponseEntity.ok(
+        new UserInfoResponse(principal.getUserId(), principal.getSubject(), principal.getRole()));
+  }
+
+  /**
+   * 관리자용 강제 로그아웃 API
+   * 해당 직원에게 발급된 모든 Access Token을 폐기하고 세션을 삭제한다.
+   *
+   * @param userId 강제 로그아웃할 사용자 ID
+   * @return 204 No Content
+   */
+  @PostMapping("/users/{userId}/sign-out")
+  public ResponseEntity<Void> signOut(@PathVariable Long userId) {
+    authService.signOut(userId);
+    return ResponseEntity.noContent().build();
+  }
+
   /**
    * Access Token 응답 DTO
    */
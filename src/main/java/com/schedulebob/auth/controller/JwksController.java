@@ -0,0 +1,37 @@
+package com.schedulebob.auth.controller;
+
+import com.schedulebob.auth.config.JwtKeyRing;
+import com.schedulebob.auth.config.JwtSigningProperties;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * JWT 검증용 공개 키(JWKS) 제공 컨트롤러.
+ * 다른 노드나 내부 서비스가 공유 비밀 없이 토큰을 직접 검증할 수 있도록 한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+  private final JwtKeyRing jwtKeyRing;
+  private final JwtSigningProperties jwtSigningProperties;
+
+  /**
+   * 활성 키와 퇴역 키의 공개 키 목록 조회.
+   * 키 교체 주기보다 짧은 시간 동안 캐시할 수 있도록 Cache-Control을 붙인다.
+   *
+   * @return JWK Set
+   */
+  @GetMapping("/.well-known/jwks.json")
+  public ResponseEntity<Map<String, Object>> jwks() {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(jwtSigningProperties.getJwksMaxAgeSeconds(), TimeUnit.SECONDS)
+            .cachePublic())
+        .body(jwtKeyRing.getJwks());
+  }
+}
@@ -0,0 +1,17 @@
+package com.schedulebob.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 현재 로그인한 사용자 정보 응답 DTO.
+ * Access Token 클레임만으로 만들며 DB를 조회하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserInfoResponse {
+
+  private Long userId;
+  private String email;
+  private String role;
+}
@@ -0,0 +1,59 @@
+package com.schedulebob.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기된 토큰 기록 엔티티.
+ * 재시작 시 메모리의 토큰 폐기 목록을 복원하고, 여러 노드 간 폐기 목록을 동기화하는 데 사용한다.
+ */
+@Entity
+@Table(
+    name = "revoked_tokens",
+    indexes = {
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_tokens_expired_at", columnList = "expired_at")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+public class RevokedToken {
+
+  /**
+   * 폐기 대상 식별자. TOKEN이면 토큰 ID(jti), SUBJECT면 사용자 이메일
+   */
+  @Id
+  @Column(length = 255)
+  private String revocationKey;
+
+  /**
+   * 폐기 단위 (개별 토큰 또는 사용자 전체)
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 10)
+  private Kind kind;
+
+  /**
+   * 폐기 일시. SUBJECT인 경우 이 시각 이전에 발급된 토큰이 모두 폐기된다.
+   */
+  @Column(nullable = false)
+  private LocalDateTime revokedAt;
+
+  /**
+   * 기록 만료 일시. 이 시각 이후에는 폐기 대상 토큰이 모두 만료되어 기록이 필요 없다.
+   */
+  @Column(nullable = false)
+  private LocalDateTime expiredAt;
+
+  /**
+   * 폐기 단위
+   */
+  public enum Kind {
+    TOKEN,
+    SUBJECT
+  }
+}
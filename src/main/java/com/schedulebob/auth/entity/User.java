@@ -1,6 +1,7 @@
 package com.schedulebob.auth.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,9 +10,11 @@ import java.time.LocalDateTime;
 /**
  * 사용자 계정 및 인증 정보를 관리하는 엔티티.
  * 관리자, 직원, 소셜 로그인 정보를 포함한다.
+ * 변경 시 UserCacheEvictionListener가 사용자 조회 캐시를 무효화한다.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_store_id", columnList = "store_id"))
+@EntityListeners(UserCacheEvictionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,9 +22,12 @@ public class User {
 
   /**
    * 사용자 고유 ID (PK, 자동 생성)
+   * IDENTITY는 INSERT 배치를 막으므로, ID 할당 테이블에서 50개씩 미리 받아 사용한다.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+  @TableGenerator(name = "user_id", table = "id_sequences", pkColumnName = "sequence_name",
+      valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
   private Long id;
 
   /**
@@ -55,6 +61,11 @@ public class User {
   @Column(nullable = false, length = 20)
   private String role;
 
+  /**
+   * 소속 매장 ID (매장이 정해지지 않은 사용자는 null)
+   */
+  private Long storeId;
+
   /**
    * 소셜 로그인 제공자(ex: google, facebook)
    * 일반 로그인 사용자는 null.
@@ -72,4 +83,26 @@ public class User {
    * 마지막 로그인 시간 (로그인 시마다 갱신)
    */
   private LocalDateTime lastLoginAt;
+
+  /**
+   * DB에서 로딩될 당시의 이메일 (저장되지 않음)
+   * 이메일이 바뀐 경우 이전 이메일의 캐시 항목을 무효화하는 데 사용한다.
+   */
+  @Transient
+  @Setter(AccessLevel.NONE)
+  private String loadedEmail;
+
+  /**
+   * DB에서 로딩될 당시의 매장 ID (저장되지 않음)
+   * 매장이 바뀐 경우 이전 매장의 근무 가능 시간 인덱스를 비우는 데 사용한다.
+   */
+  @Transient
+  @Setter(AccessLevel.NONE)
+  private Long loadedStoreId;
+
+  @PostLoad
+  void rememberLoadedState() {
+    this.loadedEmail = email;
+    this.loadedStoreId = storeId;
+  }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.schedulebob.auth.entity;
+
+import com.schedulebob.auth.event.UserStoreChangedEvent;
+import com.schedulebob.global.config.CacheConfig;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.Objects;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티가 저장/수정/삭제될 때 사용자 조회 캐시를 항목 단위로 무효화하는 JPA 엔티티 리스너.
+ *
+ * 이메일이 바뀐 경우에도 이전 이메일 항목을 지울 수 있도록 로딩 당시의 이메일도 함께 무효화한다.
+ * 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 무효화한다.
+ * 수정/삭제로 소속 매장이 바뀌면 매장 단위 캐시를 위해 UserStoreChangedEvent를 발행한다.
+ */
+@Component
+public class UserCacheEvictionListener {
+
+  private final CacheManager cacheManager;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public UserCacheEvictionListener(CacheManager cacheManager, ApplicationEventPublisher eventPublisher) {
+    this.cacheManager = cacheManager;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @PostUpdate
+  public void onUpdate(User user) {
+    onChange(user);
+    if (!Objects.equals(user.getLoadedStoreId(), user.getStoreId())) {
+      eventPublisher.publishEvent(new UserStoreChangedEvent(user.getId(), user.getLoadedStoreId(), user.getStoreId()));
+    }
+  }
+
+  @PostRemove
+  public void onRemove(User user) {
+    onChange(user);
+    if (user.getLoadedStoreId() != null) {
+      eventPublisher.publishEvent(new UserStoreChangedEvent(user.getId(), user.getLoadedStoreId(), null));
+    }
+  }
+
+  @PostPersist
+  public void onChange(User user) {
+    evict(user);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict(user);
+        }
+      });
+    }
+  }
+
+  private void evict(User user) {
+    Cache byId = cacheManager.getCache(CacheConfig.USERS_BY_ID);
+    Cache byEmail = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+
+    if (byId != null && user.getId() != null) {
+      byId.evict(user.getId());
+    }
+    if (byEmail != null) {
+      if (user.getEmail() != null) {
+        byEmail.evict(user.getEmail());
+      }
+      if (user.getLoadedEmail() != null) {
+        byEmail.evict(user.getLoadedEmail());
+      }
+    }
+  }
+}
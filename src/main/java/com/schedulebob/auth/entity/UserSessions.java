@@ -9,41 +9,37 @@ import java.time.LocalDateTime;
 
 /**
  * JWT 기반 세션 관리를 위한 토큰 저장 엔티티.
- * AccessToken과 RefreshToken 발급 및 만료 상태를 관리한다.
+ * RefreshToken 발급 및 만료 상태를 관리한다.
+ *
+ * 원본 토큰 대신 SHA-256 다이제스트만 고정 길이 컬럼에 저장하며,
+ * 해당 컬럼의 유니크 인덱스로 Refresh Token 검증 시 조회한다.
+ * 세션은 사용자당 하나이며 userId가 기본 키다.
+ * 기존 스키마(대리 키 id)는 ddl-auto: update로 바뀌지 않으므로 db/auth_schema.sql로 옮긴다.
  */
 @Entity
-@Table(name = "user_sessions")
+@Table(
+    name = "user_sessions",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_user_sessions_refresh_token_hash", columnNames = "refresh_token_hash"),
+    indexes = @Index(name = "idx_user_sessions_expired_at", columnList = "expired_at"))
 @Getter
 @Setter
 @NoArgsConstructor
 public class UserSessions {
 
   /**
-   * 세션 고유 ID (PK, 자동 생성)
+   * 사용자 ID (PK, users.id 참조)
+   * 사용자당 하나의 세션만 유지하므로 사용자 ID를 그대로 키로 사용하며,
+   * 로그인 시 이 키로 세션을 upsert 한다.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
-
-  /**
-   * 사용자 ID (외래키)
-   */
-  @Column(nullable = false)
   private Long userId;
 
   /**
-   * 액세스 토큰
+   * 리프레시 토큰의 SHA-256 다이제스트 (64자리 16진수)
    */
-  @Lob
-  @Column(nullable = false)
-  private String accessToken;
-
-  /**
-   * 리프레시 토큰
-   */
-  @Lob
-  @Column(nullable = false)
-  private String refreshToken;
+  @Column(nullable = false, length = 64, columnDefinition = "char(64)")
+  private String refreshTokenHash;
 
   /**
    * 토큰 발급 일시
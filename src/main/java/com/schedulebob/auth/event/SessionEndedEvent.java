@@ -0,0 +1,20 @@
+package com.schedulebob.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인 세션 종료 이벤트 (로그아웃, 관리자 강제 로그아웃).
+ * AuthService가 세션을 지우기 전에 발행하며, 구독자는 @TransactionalEventListener로 커밋 후에 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionEndedEvent {
+
+  private final Long userId;
+
+  /**
+   * 종료된 세션의 Refresh Token 다이제스트 (SHA-256 16진수)
+   */
+  private final String refreshTokenHash;
+}
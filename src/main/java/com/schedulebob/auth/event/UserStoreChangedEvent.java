@@ -0,0 +1,25 @@
+package com.schedulebob.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자의 소속 매장 변경 이벤트 (매장 이동, 삭제).
+ * UserCacheEvictionListener가 트랜잭션 안에서 발행하며, 구독자는 @TransactionalEventListener로 커밋 후에 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserStoreChangedEvent {
+
+  private final Long userId;
+
+  /**
+   * 로딩 당시의 매장 ID (새로 저장된 사용자면 null)
+   */
+  private final Long previousStoreId;
+
+  /**
+   * 현재 매장 ID (삭제된 사용자면 null)
+   */
+  private final Long storeId;
+}
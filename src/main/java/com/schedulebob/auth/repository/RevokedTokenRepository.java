@@ -0,0 +1,45 @@
+package com.schedulebob.auth.repository;
+
+import com.schedulebob.auth.entity.RevokedToken;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RevokedToken 엔티티 관리를 위한 JPA 리포지토리.
+ * 토큰 폐기 목록의 영속화와 복원에 활용.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+  /**
+   * 아직 만료되지 않은 폐기 기록 조회 (재시작 시 복원용)
+   *
+   * @param now 기준 시각
+   * @return 만료되지 않은 폐기 기록 목록
+   */
+  List<RevokedToken> findByExpiredAtAfter(LocalDateTime now);
+
+  /**
+   * 특정 시각 이후에 추가된 폐기 기록 조회 (노드 간 동기화용)
+   *
+   * @param revokedAt 마지막 동기화 시각
+   * @return 새로 추가된 폐기 기록 목록
+   */
+  List<RevokedToken> findByRevokedAtAfter(LocalDateTime revokedAt);
+
+  /**
+   * 만료된 폐기 기록 삭제
+   *
+   * @param now 기준 시각
+   * @return 삭제된 행 수
+   */
+  @Transactional
+  @Modifying
+  @Query("delete from RevokedToken r where r.expiredAt <= :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
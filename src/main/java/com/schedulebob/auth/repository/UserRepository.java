@@ -1,19 +1,73 @@
 package com.schedulebob.auth.repository;
 
 import com.schedulebob.auth.entity.User;
+import com.schedulebob.global.config.CacheConfig;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 사용자 정보를 DB에서 접근하기 위한 JPA 리포지토리 인터페이스.
+ * 이메일/ID 조회 결과는 불변 프로젝션(UserSummary)으로 캐시되며,
+ * User 엔티티가 저장/삭제되면 UserCacheEvictionListener가 무효화한다.
+ * 엔티티 조회(findByEmail, findById)는 캐시하지 않는다.
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
   /**
-   * 이메일(로그인 ID)로 사용자 조회
+   * 이메일(로그인 ID)로 사용자 조회 (로그인 시 비밀번호 확인용, 캐시 미적용)
+   * 조회 전용으로 로딩하므로 반환된 엔티티는 변경 감지(dirty checking) 대상이 아니다.
    *
    * @param email 로그인에 사용할 이메일 아이디
    * @return Optional<User> 해당 사용자가 존재하면 User 객체 반환, 아니면 빈 Optional
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
   Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+  /**
+   * 이메일로 사용자 요약 조회 (캐시 적용)
+   *
+   * @param email 사용자 이메일
+   * @return 해당 사용자가 존재하면 UserSummary, 아니면 빈 Optional
+   */
+  @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0", sync = true)
+  @Query("""
+      select new com.schedulebob.auth.repository.UserSummary(u.id, u.email, u.name, u.role, u.storeId)
+      from User u where u.email = :email
+      """)
+  Optional<UserSummary> findSummaryByEmail(@Param("email") String email);
+
+  /**
+   * ID로 사용자 요약 조회 (캐시 적용)
+   *
+   * @param id 사용자 고유 ID
+   * @return 해당 사용자가 존재하면 UserSummary, 아니면 빈 Optional
+   */
+  @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0", sync = true)
+  @Query("""
+      select new com.schedulebob.auth.repository.UserSummary(u.id, u.email, u.name, u.role, u.storeId)
+      from User u where u.id = :id
+      """)
+  Optional<UserSummary> findSummaryById(@Param("id") Long id);
+
+  /**
+   * 사용자 행 쓰기 잠금 (SELECT ... FOR UPDATE, 트랜잭션 안에서만 사용)
+   * 여러 트랜잭션이 같은 사용자들을 잠글 때 교착되지 않도록 ID 오름차순으로 잠근다.
+   *
+   * @param ids 잠글 사용자 ID 목록
+   * @return 잠근 사용자 목록
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select u from User u where u.id in :ids order by u.id")
+  List<User> lockAllById(@Param("ids") Collection<Long> ids);
+
+}
@@ -1,8 +1,15 @@
 package com.schedulebob.auth.repository;
 
 import com.schedulebob.auth.entity.UserSessions;
+import com.schedulebob.auth.session.SessionOwner;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,10 +27,74 @@ public interface UserSessionsRepository extends JpaRepository<UserSessions, Long
   Optional<UserSessions> findByUserId(Long userId);
 
   /**
-   * Refresh Token으로 세션 조회 (토큰 재발급 검증용)
+   * Refresh Token 다이제스트로 세션 조회 (토큰 재발급 검증용)
+   * refresh_token_hash 유니크 인덱스를 사용한다.
    *
-   * @param refreshToken 리프레시 토큰 문자열
+   * @param refreshTokenHash 리프레시 토큰의 SHA-256 16진수 다이제스트
    * @return Optional<UserSessions> 세션 존재 시 반환
    */
-  Optional<UserSessions> findByRefreshToken(String refreshToken);
-}
\ No newline at end of file
+  Optional<UserSessions> findByRefreshTokenHash(String refreshTokenHash);
+
+  /**
+   * Refresh Token 다이제스트와 사용자 ID로 세션과 사용자를 조인해 재발급에 필요한 컬럼만 조회
+   * refresh_token_hash 유니크 인덱스와 users 기본 키를 사용하는 단일 쿼리다.
+   *
+   * @param userId 토큰의 사용자 ID
+   * @param refreshTokenHash 리프레시 토큰의 SHA-256 16진수 다이제스트
+   * @return 세션 소유자 정보
+   */
+  @Query("""
+      select new com.schedulebob.auth.session.SessionOwner(u.id, u.email, u.role)
+      from UserSessions s join User u on u.id = s.userId
+      where s.refreshTokenHash = :refreshTokenHash and s.userId = :userId
+      """)
+  Optional<SessionOwner> findOwner(@Param("userId") Long userId,
+      @Param("refreshTokenHash") String refreshTokenHash);
+
+  /**
+   * 사용자 세션을 한 번의 쿼리로 생성하거나 갱신 (로그인용)
+   * user_id 기본 키 충돌 시 기존 행을 갱신하므로, 동시에 로그인해도 조회 후 저장 경쟁이 생기지 않는다.
+   *
+   * @param userId 사용자 고유 ID
+   * @param refreshTokenHash 리프레시 토큰의 SHA-256 16진수 다이제스트
+   * @param issuedAt 토큰 발급 일시
+   * @param expiredAt 토큰 만료 일시
+   * @return 영향받은 행 수
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_sessions (user_id, refresh_token_hash, issued_at, expired_at)
+      VALUES (:userId, :refreshTokenHash, :issuedAt, :expiredAt)
+      ON DUPLICATE KEY UPDATE
+        refresh_token_hash = VALUES(refresh_token_hash),
+        issued_at = VALUES(issued_at),
+        expired_at = VALUES(expired_at)
+      """, nativeQuery = true)
+  int upsertSession(@Param("userId") Long userId,
+      @Param("refreshTokenHash") String refreshTokenHash,
+      @Param("issuedAt") LocalDateTime issuedAt,
+      @Param("expiredAt") LocalDateTime expiredAt);
+
+  /**
+   * 만료된 세션의 사용자 ID를 만료 순으로 조회 (만료 세션 정리용)
+   * expired_at 인덱스 범위 조회로 한 번에 pageable 크기만큼만 가져온다.
+   *
+   * @param now 기준 시각
+   * @param pageable 조회 크기
+   * @return 만료된 세션의 사용자 ID 목록
+   */
+  @Query("select s.userId from UserSessions s where s.expiredAt < :now order by s.expiredAt")
+  List<Long> findExpiredUserIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * 지정한 사용자들의 세션 중 여전히 만료 상태인 세션만 삭제
+   * 조회 이후 다시 로그인하여 갱신된 세션은 삭제하지 않는다.
+   *
+   * @param userIds 삭제 대상 사용자 ID 목록
+   * @param now 기준 시각
+   * @return 삭제된 행 수
+   */
+  @Modifying
+  @Query("delete from UserSessions s where s.userId in :userIds and s.expiredAt < :now")
+  int deleteExpired(@Param("userIds") List<Long> userIds, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,39 @@
+package com.schedulebob.auth.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 조회 캐시에 보관하는 불변 프로젝션.
+ * 여러 스레드가 같은 인스턴스를 공유하므로 변경 가능한 엔티티 대신 이 객체를 캐시하며,
+ * 비밀번호 해시는 담지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserSummary {
+
+  /**
+   * 사용자 ID
+   */
+  private final Long id;
+
+  /**
+   * 사용자 이메일 (토큰 Subject)
+   */
+  private final String email;
+
+  /**
+   * 사용자 이름
+   */
+  private final String name;
+
+  /**
+   * 사용자 권한
+   */
+  private final String role;
+
+  /**
+   * 소속 매장 ID (매장이 정해지지 않은 사용자는 null)
+   */
+  private final Long storeId;
+}
@@ -0,0 +1,73 @@
+package com.schedulebob.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인/재발급 단계별 소요 시간 지표.
+ * 타이머는 생성 시점에 한 번만 등록하고, 요청 경로에서는 조회 없이 기록만 한다.
+ * 백분위는 management.metrics.distribution.percentiles.auth.phase 설정으로 지정한다.
+ */
+@Component
+public class AuthMetrics {
+
+  /**
+   * 단계별 타이머 이름 (operation, phase 태그로 구분)
+   */
+  public static final String PHASE_TIMER = "auth.phase";
+
+  private final Timer loginUserLookup;
+  private final Timer loginPasswordCheck;
+  private final Timer loginSign;
+  private final Timer loginSessionWrite;
+  private final Timer refreshVerify;
+  private final Timer refreshSessionLookup;
+  private final Timer refreshSign;
+
+  public AuthMetrics(MeterRegistry registry) {
+    this.loginUserLookup = phase(registry, "login", "user_lookup");
+    this.loginPasswordCheck = phase(registry, "login", "password_check");
+    this.loginSign = phase(registry, "login", "sign");
+    this.loginSessionWrite = phase(registry, "login", "session_write");
+    this.refreshVerify = phase(registry, "refresh", "verify");
+    this.refreshSessionLookup = phase(registry, "refresh", "session_lookup");
+    this.refreshSign = phase(registry, "refresh", "sign");
+  }
+
+  public Timer loginUserLookup() {
+    return loginUserLookup;
+  }
+
+  public Timer loginPasswordCheck() {
+    return loginPasswordCheck;
+  }
+
+  public Timer loginSign() {
+    return loginSign;
+  }
+
+  public Timer loginSessionWrite() {
+    return loginSessionWrite;
+  }
+
+  public Timer refreshVerify() {
+    return refreshVerify;
+  }
+
+  public Timer refreshSessionLookup() {
+    return refreshSessionLookup;
+  }
+
+  public Timer refreshSign() {
+    return refreshSign;
+  }
+
+  private static Timer phase(MeterRegistry registry, String operation, String phase) {
+    return Timer.builder(PHASE_TIMER)
+        .description("인증 처리 단계별 소요 시간")
+        .tag("operation", operation)
+        .tag("phase", phase)
+        .register(registry);
+  }
+}
@@ -1,100 +1,158 @@
 package com.schedulebob.auth.service;
 
 import com.schedulebob.auth.dto.LoginRequest;
+import com.schedulebob.auth.event.SessionEndedEvent;
 import com.schedulebob.auth.dto.LoginResponse;
 import com.schedulebob.auth.entity.User;
-import com.schedulebob.auth.entity.UserSessions;
 import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.global.util.TokenDigests;
 import com.schedulebob.auth.repository.UserRepository;
-import com.schedulebob.auth.repository.UserSessionsRepository;
+import com.schedulebob.auth.repository.UserSummary;
+import com.schedulebob.auth.session.SessionOwner;
+import com.schedulebob.auth.session.SessionRecord;
+import com.schedulebob.auth.session.SessionStore;
+import com.schedulebob.auth.config.JwtPrincipal;
 import com.schedulebob.auth.config.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 /**
  * 인증 비즈니스 로직 서비스.
  * 로그인, 토큰 발급 및 리프레시 토큰 저장/검증 담당.
+ * 조회, 해싱, 서명, 세션 쓰기 단계의 소요 시간은 AuthMetrics로 기록한다.
  */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
   private final UserRepository userRepository;
-  private final UserSessionsRepository userSessionsRepository;
+  private final SessionStore sessionStore;
   private final PasswordEncoder passwordEncoder;
   private final JwtTokenProvider jwtTokenProvider;
+  private final LoginBookkeepingBuffer loginBookkeepingBuffer;
+  private final TokenRevocationList tokenRevocationList;
+  private final AuthMetrics authMetrics;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 로그인 처리 및 AccessToken/RefreshToken 발급.
-   * RefreshToken DB에 저장.
+   * RefreshToken의 다이제스트를 DB에 저장하며, 트랜잭션은 세션 upsert에만 연다.
+   * 사용자 조회와 비밀번호 검증은 트랜잭션 밖에서 하므로, 해싱 대기열에서 기다리는 동안 커넥션을 잡고 있지 않는다.
    *
    * @param request 로그인 요청 DTO
    * @return 로그인 응답 DTO (토큰 포함)
    */
-  @Transactional
   public LoginResponse login(LoginRequest request) {
-    User user = userRepository.findByEmail(request.getEmail())
+    User user = authMetrics.loginUserLookup()
+        .record(() -> userRepository.findByEmail(request.getEmail()))
         .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
 
-    if (user.getPassword() == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+    if (user.getPassword() == null || !authMetrics.loginPasswordCheck()
+        .record(() -> passwordEncoder.matches(request.getPassword(), user.getPassword()))) {
       throw new CustomException("비밀번호가 일치하지 않습니다.");
     }
 
-    String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getRole());
-    String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+    Timer.Sample signing = Timer.start();
+    String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
+    String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getEmail());
+    signing.stop(authMetrics.loginSign());
 
-    user.setLastLoginAt(LocalDateTime.now());
-    userRepository.save(user);
+    LocalDateTime now = LocalDateTime.now();
 
-    // 기존 세션이 있으면 갱신, 없으면 새로 저장
-    Optional<UserSessions> optionalSession = userSessionsRepository.findByUserId(user.getId());
+    // 기존 세션이 있으면 갱신, 없으면 새로 저장 (단일 upsert)
+    authMetrics.loginSessionWrite().record(() -> transactionTemplate.executeWithoutResult(
+        status -> sessionStore.upsert(new SessionRecord(
+            user.getId(),
+            TokenDigests.sha256Hex(refreshToken),
+            now,
+            now.plusDays(14)))));  // RefreshToken 만료일 예시
 
-    UserSessions session = optionalSession.orElse(new UserSessions());
-    session.setUserId(user.getId());
-    session.setAccessToken(accessToken);
-    session.setRefreshToken(refreshToken);
-    session.setIssuedAt(LocalDateTime.now());
-    session.setExpiredAt(LocalDateTime.now().plusDays(14));  // RefreshToken 만료일 예시
-    userSessionsRepository.save(session);
+    // 마지막 로그인 시간은 쓰기 지연 버퍼를 통해 배치로 반영한다.
+    loginBookkeepingBuffer.recordLogin(user.getId(), now);
 
     return new LoginResponse(accessToken, refreshToken);
   }
 
   /**
    * RefreshToken으로 AccessToken 재발급
+   * 토큰의 사용자 ID(uid)와 다이제스트로 세션과 사용자 정보를 한 번에 조회한다.
    *
    * @param refreshToken 클라이언트로부터 받은 Refresh Token
    * @return 새로운 AccessToken
    */
   @Transactional
   public String refreshAccessToken(String refreshToken) {
-    if (!jwtTokenProvider.validateToken(refreshToken)) {
+    JwtPrincipal principal;
+    try {
+      principal = authMetrics.refreshVerify().record(() -> jwtTokenProvider.verify(refreshToken));
+    } catch (JwtException | IllegalArgumentException e) {
       throw new CustomException("리프레시 토큰이 유효하지 않습니다.");
     }
 
-    String email = jwtTokenProvider.getEmail(refreshToken);
+    // uid 클레임이 없는 이전 형식의 토큰은 다시 로그인하도록 한다.
+    if (principal.getUserId() == null) {
+      throw new CustomException("리프레시 토큰이 유효하지 않습니다.");
+    }
 
-    User user = userRepository.findByEmail(email)
-        .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
+    // 다이제스트 인덱스로 세션을 조회하면서, 토큰의 사용자와 세션 사용자가 같은지 함께 확인한다.
+    Long userId = principal.getUserId();
+    SessionOwner owner = authMetrics.refreshSessionLookup()
+        .record(() -> sessionStore.findOwner(userId, TokenDigests.sha256Hex(refreshToken)))
+        .orElseThrow(() -> new CustomException("리프레시 토큰이 일치하지 않습니다."));
 
-    UserSessions session = userSessionsRepository.findByUserId(user.getId())
-        .orElseThrow(() -> new CustomException("세션이 존재하지 않습니다."));
+    // Access Token은 세션에 저장하지 않으므로 재발급 시 세션 쓰기가 발생하지 않는다.
+    return authMetrics.refreshSign().record(
+        () -> jwtTokenProvider.createAccessToken(owner.getUserId(), owner.getEmail(), owner.getRole()));
+  }
 
-    if (!refreshToken.equals(session.getRefreshToken())) {
-      throw new CustomException("리프레시 토큰이 일치하지 않습니다.");
+  /**
+   * 로그아웃 처리.
+   * 현재 Access Token을 폐기하고 세션을 삭제하여 Refresh Token으로도 재발급할 수 없게 한다.
+   *
+   * @param principal 현재 요청의 Access Token 클레임
+   */
+  @Transactional
+  public void logout(JwtPrincipal principal) {
+    tokenRevocationList.revokeToken(principal);
+
+    if (principal.getUserId() != null) {
+      endSession(principal.getUserId());
+    } else {
+      userRepository.findSummaryByEmail(principal.getSubject())
+          .ifPresent(user -> endSession(user.getId()));
     }
+  }
 
-    String newAccessToken = jwtTokenProvider.createAccessToken(user.getEmail(), user.getRole());
+  /**
+   * 관리자에 의한 강제 로그아웃.
+   * 사용자에게 발급된 모든 Access Token을 폐기하고 세션을 삭제한다.
+   *
+   * @param userId 강제 로그아웃할 사용자 ID
+   */
+  @Transactional
+  public void signOut(Long userId) {
+    UserSummary user = userRepository.findSummaryById(userId)
+        .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
 
-    // Access Token 갱신은 세션에 저장하는 정책에 따라 변경 가능
-    session.setAccessToken(newAccessToken);
-    userSessionsRepository.save(session);
+    tokenRevocationList.revokeSubject(user.getEmail());
+    endSession(user.getId());
+  }
 
-    return newAccessToken;
+  /**
+   * 세션을 삭제하고, 같은 Refresh Token으로 방금 발급된 재발급 결과가 재사용되지 않도록 SessionEndedEvent를 발행한다.
+   */
+  private void endSession(Long userId) {
+    sessionStore.findByUserId(userId).ifPresent(session ->
+        eventPublisher.publishEvent(new SessionEndedEvent(userId, session.getRefreshTokenHash())));
+    sessionStore.deleteByUserId(userId);
   }
-}
\ No newline at end of file
+}
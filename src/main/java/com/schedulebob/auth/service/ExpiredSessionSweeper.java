@@ -0,0 +1,117 @@
+package com.schedulebob.auth.service;
+
+import com.schedulebob.auth.session.SessionStore;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료된 세션을 주기적으로 삭제하는 컴포넌트.
+ *
+ * 한 번에 정해진 건수만 조회/삭제하고 각 묶음을 별도의 짧은 트랜잭션으로 처리하며,
+ * 묶음 사이에 잠시 쉬어 로그인 요청과의 잠금 경합을 줄인다.
+ */
+@Slf4j
+@Component
+public class ExpiredSessionSweeper {
+
+  private final SessionStore sessionStore;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxChunksPerRun;
+  private final long pauseMillis;
+
+  private final AtomicLong totalPurged = new AtomicLong();
+  private volatile long lastRunPurged;
+  private volatile long lastRunMillis;
+
+  /**
+   * ExpiredSessionSweeper 생성자.
+   *
+   * @param sessionStore 세션 저장소
+   * @param transactionManager 묶음별 트랜잭션에 사용할 트랜잭션 매니저
+   * @param chunkSize 한 번에 삭제할 최대 세션 수
+   * @param maxChunksPerRun 한 번 실행 시 처리할 최대 묶음 수
+   * @param pauseMillis 묶음 사이 대기 시간(ms)
+   */
+  public ExpiredSessionSweeper(SessionStore sessionStore,
+      PlatformTransactionManager transactionManager,
+      @Value("${auth.session-sweeper.chunk-size:500}") int chunkSize,
+      @Value("${auth.session-sweeper.max-chunks-per-run:100}") int maxChunksPerRun,
+      @Value("${auth.session-sweeper.pause-ms:100}") long pauseMillis) {
+    this.sessionStore = sessionStore;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.maxChunksPerRun = maxChunksPerRun;
+    this.pauseMillis = pauseMillis;
+  }
+
+  /**
+   * 만료된 세션을 묶음 단위로 삭제한다.
+   *
+   * @return 이번 실행에서 삭제한 세션 수
+   */
+  @Scheduled(fixedDelayString = "${auth.session-sweeper.interval-ms:600000}",
+      initialDelayString = "${auth.session-sweeper.initial-delay-ms:60000}")
+  public long sweep() {
+    long startedAt = System.nanoTime();
+    LocalDateTime now = LocalDateTime.now();
+    long purged = 0;
+
+    for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+      Integer deleted = transactionTemplate.execute(
+          status -> sessionStore.deleteExpired(now, chunkSize));
+      purged += deleted == null ? 0 : deleted;
+
+      if (deleted == null || deleted < chunkSize || !pause()) {
+        break;
+      }
+    }
+
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    lastRunPurged = purged;
+    lastRunMillis = elapsedMillis;
+    totalPurged.addAndGet(purged);
+    if (purged > 0) {
+      log.info("만료된 세션 {}건 삭제 ({}ms)", purged, elapsedMillis);
+    }
+    return purged;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(pauseMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * 애플리케이션 시작 이후 삭제한 세션 수
+   */
+  public long totalPurged() {
+    return totalPurged.get();
+  }
+
+  /**
+   * 마지막 실행에서 삭제한 세션 수
+   */
+  public long lastRunPurged() {
+    return lastRunPurged;
+  }
+
+  /**
+   * 마지막 실행에 걸린 시간(ms)
+   */
+  public long lastRunMillis() {
+    return lastRunMillis;
+  }
+}
@@ -0,0 +1,196 @@
+package com.schedulebob.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 부가 정보(마지막 로그인 시간)를 모아서 반영하는 쓰기 지연(write-behind) 버퍼.
+ * 로그인 트랜잭션에서 users 테이블을 갱신하지 않고, 사용자별 최신 시각만 모아 두었다가
+ * 주기적으로 또는 일정 건수가 쌓이면 하나의 JDBC 배치로 반영한다.
+ *
+ * 따라서 users.last_login_at은 최대 플러시 주기만큼 늦게 반영될 수 있다.
+ *
+ * 반영에 실패하면 항목을 버퍼에 되돌리고, 다음 주기 플러시가 성공할 때까지 임계치 플러시를 멈춘다.
+ * 연속 실패가 max-retries를 넘거나 대기 건수가 max-pending에 도달하면 항목을 버리고 건수를 센다.
+ * 마지막 로그인 시간은 부가 정보이므로 로그인 자체를 막지 않는다.
+ */
+@Slf4j
+@Component
+public class LoginBookkeepingBuffer {
+
+  // 다른 노드가 더 최신 값을 이미 반영했다면 덮어쓰지 않는다.
+  private static final String UPDATE_LAST_LOGIN_SQL =
+      "UPDATE users SET last_login_at = ? WHERE id = ? "
+          + "AND (last_login_at IS NULL OR last_login_at < ?)";
+
+  private final ConcurrentHashMap<Long, LocalDateTime> pendingLastLogins = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TaskScheduler taskScheduler;
+  private final int flushThreshold;
+  private final int maxPending;
+  private final int maxRetries;
+  private final Counter droppedRows;
+
+  // 마지막 플러시가 실패했으면 true. 주기 플러시가 성공할 때까지 임계치 플러시를 요청하지 않는다.
+  private volatile boolean failing;
+  // 연속 실패 횟수 (flushLock으로 보호)
+  private int consecutiveFailures;
+
+  /**
+   * LoginBookkeepingBuffer 생성자.
+   *
+   * @param jdbcTemplate 배치 갱신에 사용할 JdbcTemplate
+   * @param taskScheduler 임계치 도달 시 플러시를 실행할 스케줄러
+   * @param meterRegistry 버린 항목 수를 기록할 레지스트리
+   * @param flushThreshold 즉시 플러시를 요청하는 대기 건수
+   * @param maxPending 버퍼에 보관할 최대 사용자 수
+   * @param maxRetries 실패한 항목을 버리기 전까지 허용하는 연속 실패 횟수
+   */
+  public LoginBookkeepingBuffer(JdbcTemplate jdbcTemplate,
+      TaskScheduler taskScheduler,
+      MeterRegistry meterRegistry,
+      @Value("${auth.login-bookkeeping.flush-threshold:500}") int flushThreshold,
+      @Value("${auth.login-bookkeeping.max-pending:100000}") int maxPending,
+      @Value("${auth.login-bookkeeping.max-retries:5}") int maxRetries) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.taskScheduler = taskScheduler;
+    this.flushThreshold = flushThreshold;
+    this.maxPending = maxPending;
+    this.maxRetries = maxRetries;
+    this.droppedRows = Counter.builder("auth.login-bookkeeping.dropped").register(meterRegistry);
+    Gauge.builder("auth.login-bookkeeping.pending", pendingLastLogins, ConcurrentHashMap::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 사용자의 로그인 시각을 기록한다. 같은 사용자의 대기 중인 값은 최신 시각으로 합쳐진다.
+   *
+   * @param userId 사용자 고유 ID
+   * @param loginAt 로그인 시각
+   */
+  public void recordLogin(Long userId, LocalDateTime loginAt) {
+    if (pendingLastLogins.size() >= maxPending && !pendingLastLogins.containsKey(userId)) {
+      droppedRows.increment();
+      return;
+    }
+    merge(userId, loginAt);
+
+    // 요청 스레드에서 DB에 쓰지 않도록 플러시는 스케줄러 스레드에 맡긴다.
+    if (pendingLastLogins.size() >= flushThreshold && !failing && flushRequested.compareAndSet(false, true)) {
+      taskScheduler.schedule(this::flushOnThreshold, Instant.now());
+    }
+  }
+
+  /**
+   * 대기 중인 로그인 시각을 하나의 JDBC 배치로 반영한다.
+   * 실패한 항목은 다음 주기 플러시에서 다시 시도하도록 버퍼에 되돌린다.
+   */
+  @Scheduled(fixedDelayString = "${auth.login-bookkeeping.flush-interval-ms:2000}")
+  public void flush() {
+    flushRequested.set(false);
+    flushPending(true);
+  }
+
+  /**
+   * 현재 반영 대기 중인 사용자 수
+   */
+  public int pendingCount() {
+    return pendingLastLogins.size();
+  }
+
+  /**
+   * 반영하지 못하고 버린 항목 수
+   */
+  public long droppedCount() {
+    return (long) droppedRows.count();
+  }
+
+  /**
+   * 애플리케이션 종료 시 남은 항목을 한 번만 반영해 본다. 실패하면 버린다.
+   */
+  @PreDestroy
+  public void shutdown() {
+    flushPending(false);
+  }
+
+  /**
+   * 임계치 도달로 요청된 플러시. 직전 플러시가 실패했다면 주기 플러시에 맡긴다.
+   */
+  private void flushOnThreshold() {
+    flushRequested.set(false);
+    if (!failing) {
+      flushPending(true);
+    }
+  }
+
+  private void flushPending(boolean retry) {
+    if (pendingLastLogins.isEmpty()) {
+      return;
+    }
+
+    flushLock.lock();
+    try {
+      List<Object[]> batch = new ArrayList<>(pendingLastLogins.size());
+      for (Long userId : pendingLastLogins.keySet()) {
+        LocalDateTime loginAt = pendingLastLogins.remove(userId);
+        if (loginAt != null) {
+          Timestamp timestamp = Timestamp.valueOf(loginAt);
+          batch.add(new Object[] {timestamp, userId, timestamp});
+        }
+      }
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      try {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, batch);
+        consecutiveFailures = 0;
+        failing = false;
+      } catch (RuntimeException e) {
+        consecutiveFailures++;
+        failing = true;
+        if (!retry || consecutiveFailures > maxRetries) {
+          droppedRows.increment(batch.size());
+          log.warn("마지막 로그인 시간 {}건 반영 실패({}회 연속), 항목을 버립니다: {}",
+              batch.size(), consecutiveFailures, e.getMessage());
+          return;
+        }
+        // 스택 트레이스는 연속 실패의 첫 번째에만 남긴다.
+        if (consecutiveFailures == 1) {
+          log.warn("마지막 로그인 시간 {}건 반영 실패, 다음 주기에 재시도합니다.", batch.size(), e);
+        } else {
+          log.warn("마지막 로그인 시간 {}건 반영 실패({}회 연속), 다음 주기에 재시도합니다: {}",
+              batch.size(), consecutiveFailures, e.getMessage());
+        }
+        for (Object[] row : batch) {
+          merge((Long) row[1], ((Timestamp) row[0]).toLocalDateTime());
+        }
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void merge(Long userId, LocalDateTime loginAt) {
+    pendingLastLogins.merge(userId, loginAt, (prev, next) -> next.isAfter(prev) ? next : prev);
+  }
+}
@@ -0,0 +1,68 @@
+package com.schedulebob.auth.service;
+
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.global.ratelimit.StripedRateLimiter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 요청 제한 컴포넌트.
+ * 이메일별, 클라이언트 IP별 토큰 버킷으로 로그인 시도를 제한하여
+ * 대량 대입 공격이 DB 조회와 BCrypt 비교 비용을 소모하지 못하도록 한다.
+ */
+@Component
+public class LoginRateLimiter {
+
+  private final boolean enabled;
+  private final StripedRateLimiter emailLimiter;
+  private final StripedRateLimiter ipLimiter;
+
+  /**
+   * LoginRateLimiter 생성자.
+   *
+   * @param enabled 요청 제한 사용 여부
+   * @param emailCapacity 이메일별 분당 허용 로그인 시도 수
+   * @param ipCapacity IP별 분당 허용 로그인 시도 수
+   * @param maxEntries 이메일, IP 각각 추적할 최대 키 수
+   */
+  public LoginRateLimiter(
+      @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+      @Value("${auth.rate-limit.email-per-minute:5}") int emailCapacity,
+      @Value("${auth.rate-limit.ip-per-minute:60}") int ipCapacity,
+      @Value("${auth.rate-limit.max-entries:100000}") int maxEntries) {
+    this.enabled = enabled;
+    this.emailLimiter = new StripedRateLimiter(emailCapacity, 1, TimeUnit.MINUTES, maxEntries);
+    this.ipLimiter = new StripedRateLimiter(ipCapacity, 1, TimeUnit.MINUTES, maxEntries);
+  }
+
+  /**
+   * 로그인 시도를 허용할지 확인한다.
+   *
+   * @param email 로그인 요청 이메일
+   * @param clientIp 클라이언트 IP
+   * @throws CustomException 제한 초과 시 429(TOO_MANY_REQUESTS)
+   */
+  public void check(String email, String clientIp) {
+    if (!enabled) {
+      return;
+    }
+    if (!ipLimiter.tryAcquire(clientIp)
+        || !emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+      throw new CustomException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+          HttpStatus.TOO_MANY_REQUESTS);
+    }
+  }
+
+  /**
+   * 유휴 상태가 된 버킷을 정리한다.
+   */
+  @Scheduled(fixedDelayString = "${auth.rate-limit.eviction-interval-ms:60000}")
+  public void evictIdle() {
+    emailLimiter.evictIdle();
+    ipLimiter.evictIdle();
+  }
+}
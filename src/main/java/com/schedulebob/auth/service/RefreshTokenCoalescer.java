@@ -0,0 +1,153 @@
+package com.schedulebob.auth.service;
+
+import com.schedulebob.auth.event.SessionEndedEvent;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.global.util.TokenDigests;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 같은 Refresh Token으로 동시에 들어온 재발급 요청을 하나의 계산으로 합치는 컴포넌트.
+ * 먼저 도착한 요청(leader)만 AuthService.refreshAccessToken을 실행하고,
+ * 나머지 요청은 그 결과를 기다려 같은 Access Token을 받는다.
+ *
+ * 완료된 결과는 짧은 유예 시간 동안 재사용되며, 실패한 결과는 재사용하지 않는다.
+ * leader가 Error로 끝나도 결과는 반드시 완료되며, 나머지 요청은 정해진 시간까지만 기다린다.
+ * 로그아웃/강제 로그아웃으로 세션이 끝나면 그 Refresh Token의 결과를 바로 버려,
+ * 유예 시간 안의 재발급 요청도 세션을 다시 확인하게 한다 (다른 서버의 결과는 유예 시간이 지나야 사라진다).
+ */
+@Component
+public class RefreshTokenCoalescer {
+
+  private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+  private final AuthService authService;
+  private final long graceMillis;
+  private final long waitMillis;
+
+  /**
+   * RefreshTokenCoalescer 생성자.
+   *
+   * @param authService 실제 재발급을 수행하는 서비스
+   * @param graceMillis 완료된 결과를 재사용하는 시간(ms)
+   */
+  public RefreshTokenCoalescer(AuthService authService, long graceMillis) {
+    this(authService, graceMillis, 10000);
+  }
+
+  /**
+   * RefreshTokenCoalescer 생성자.
+   *
+   * @param authService 실제 재발급을 수행하는 서비스
+   * @param graceMillis 완료된 결과를 재사용하는 시간(ms)
+   * @param waitMillis 다른 요청의 재발급 결과를 기다리는 최대 시간(ms)
+   */
+  @Autowired
+  public RefreshTokenCoalescer(AuthService authService,
+      @Value("${auth.refresh.grace-ms:5000}") long graceMillis,
+      @Value("${auth.refresh.wait-timeout-ms:10000}") long waitMillis) {
+    this.authService = authService;
+    this.graceMillis = graceMillis;
+    this.waitMillis = waitMillis;
+  }
+
+  /**
+   * RefreshToken으로 AccessToken 재발급. 진행 중이거나 방금 끝난 같은 요청이 있으면 그 결과를 공유한다.
+   *
+   * @param refreshToken 클라이언트로부터 받은 Refresh Token
+   * @return 새로운 AccessToken
+   */
+  public String refresh(String refreshToken) {
+    // 원본 토큰을 메모리 키로 들고 있지 않도록 다이제스트를 사용한다.
+    String key = TokenDigests.sha256Hex(refreshToken);
+
+    while (true) {
+      Flight existing = flights.get(key);
+      if (existing != null) {
+        if (!existing.isStale(System.currentTimeMillis())) {
+          return existing.await();
+        }
+        flights.remove(key, existing);
+        continue;
+      }
+
+      Flight flight = new Flight();
+      if (flights.putIfAbsent(key, flight) == null) {
+        return lead(key, flight, refreshToken);
+      }
+    }
+  }
+
+  private String lead(String key, Flight flight, String refreshToken) {
+    try {
+      String accessToken = authService.refreshAccessToken(refreshToken);
+      flight.complete(accessToken);
+      return accessToken;
+    } catch (Throwable e) {
+      // Error도 결과를 완료해야 기다리는 요청이 풀리고, 미완료 항목이 정리되지 않은 채 남지 않는다.
+      flights.remove(key, flight);
+      flight.future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * 끝난 세션의 재발급 결과를 버린다 (커밋 후).
+   * 세션 삭제가 커밋되기 전에 시작된 재발급이 결과를 다시 남기지 않도록 커밋 후에 지운다.
+   *
+   * @param event 세션 종료 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onSessionEnded(SessionEndedEvent event) {
+    flights.remove(event.getRefreshTokenHash());
+  }
+
+  /**
+   * 유예 시간이 지난 결과를 정리한다.
+   */
+  @Scheduled(fixedDelayString = "${auth.refresh.purge-interval-ms:60000}")
+  public void purgeStale() {
+    long now = System.currentTimeMillis();
+    flights.values().removeIf(flight -> flight.isStale(now));
+  }
+
+  private final class Flight {
+    private final CompletableFuture<String> future = new CompletableFuture<>();
+    private volatile long completedAt = Long.MAX_VALUE;
+
+    private void complete(String accessToken) {
+      completedAt = System.currentTimeMillis();
+      future.complete(accessToken);
+    }
+
+    private boolean isStale(long now) {
+      return completedAt != Long.MAX_VALUE && now - completedAt > graceMillis;
+    }
+
+    private String await() {
+      try {
+        return future.get(waitMillis, TimeUnit.MILLISECONDS);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw new CompletionException(e.getCause());
+      } catch (TimeoutException e) {
+        throw new CustomException("토큰 재발급이 지연되고 있습니다. 잠시 후 다시 시도해주세요.",
+            HttpStatus.SERVICE_UNAVAILABLE);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CustomException("토큰 재발급이 중단되었습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+      }
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package com.schedulebob.auth.service;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.auth.config.JwtTokenProvider;
+import com.schedulebob.auth.entity.RevokedToken;
+import com.schedulebob.auth.repository.RevokedTokenRepository;
+import com.schedulebob.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 전에 폐기된 토큰 목록을 메모리에서 관리하는 컴포넌트.
+ *
+ * 개별 토큰은 토큰 ID(jti)로, 사용자 전체 강제 로그아웃은 사용자(Subject)와 기준 시각으로 기록한다.
+ * 요청마다 호출되는 isRevoked()는 Bloom filter를 먼저 확인하므로,
+ * 폐기되지 않은 토큰은 몇 번의 해시 계산만으로 통과하고 객체를 생성하지 않는다.
+ *
+ * 폐기 기록은 DB에도 저장되어 재시작 시 복원되며, 다른 노드의 기록은 주기적으로 가져온다.
+ * 토큰이 만료된 기록은 주기적으로 제거되고, 이때 Bloom filter도 다시 만든다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+  private static final long TOKEN_SEED = 0x746f6b656eL;
+  private static final long SUBJECT_SEED = 0x7375626a6563L;
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+
+  // 토큰 ID -> 토큰 만료 시각(ms)
+  private final ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+  // 사용자(Subject) -> 폐기 기준 시각(ms). 이 시각 이전에 발급된 토큰은 폐기된 것으로 본다.
+  private final ConcurrentHashMap<String, Long> revokedSubjects = new ConcurrentHashMap<>();
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final long accessTokenValidity;
+  private final int expectedEntries;
+
+  private volatile BloomFilter bloomFilter;
+  private volatile LocalDateTime lastSyncedAt = LocalDateTime.now(ZONE);
+
+  /**
+   * TokenRevocationList 생성자.
+   *
+   * @param revokedTokenRepository 폐기 기록 리포지토리
+   * @param jwtTokenProvider Access Token 유효 시간 조회용
+   * @param expectedEntries Bloom filter 크기 산정을 위한 예상 폐기 건수
+   */
+  public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+      JwtTokenProvider jwtTokenProvider,
+      @Value("${auth.revocation.expected-entries:10000}") int expectedEntries) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.accessTokenValidity = jwtTokenProvider.getAccessTokenValidity();
+    this.expectedEntries = expectedEntries;
+    this.bloomFilter = new BloomFilter(expectedEntries, 0.01);
+  }
+
+  /**
+   * 재시작 시 DB에 저장된 폐기 기록을 복원한다.
+   */
+  @PostConstruct
+  public void restore() {
+    LocalDateTime now = LocalDateTime.now(ZONE);
+    List<RevokedToken> entries = revokedTokenRepository.findByExpiredAtAfter(now);
+    entries.forEach(this::apply);
+    lastSyncedAt = now;
+    log.info("토큰 폐기 기록 {}건을 복원했습니다.", entries.size());
+  }
+
+  /**
+   * 토큰이 폐기되었는지 확인한다.
+   *
+   * @param principal 서명 검증을 마친 토큰 클레임
+   * @return 폐기되었으면 true
+   */
+  public boolean isRevoked(JwtPrincipal principal) {
+    BloomFilter filter = bloomFilter;
+    String tokenId = principal.getTokenId();
+    String subject = principal.getSubject();
+
+    boolean tokenCandidate = tokenId != null && filter.mightContain(tokenId, TOKEN_SEED);
+    boolean subjectCandidate = subject != null && filter.mightContain(subject, SUBJECT_SEED);
+    if (!tokenCandidate && !subjectCandidate) {
+      return false;
+    }
+
+    if (tokenCandidate && revokedTokens.containsKey(tokenId)) {
+      return true;
+    }
+    if (subjectCandidate) {
+      Long cutoff = revokedSubjects.get(subject);
+      return cutoff != null && principal.getIssuedAt().toEpochMilli() < cutoff;
+    }
+    return false;
+  }
+
+  /**
+   * 개별 토큰을 만료 시각까지 폐기한다. (로그아웃)
+   *
+   * @param principal 폐기할 토큰의 클레임
+   */
+  public void revokeToken(JwtPrincipal principal) {
+    RevokedToken entry = new RevokedToken();
+    entry.setRevocationKey(principal.getTokenId());
+    entry.setKind(RevokedToken.Kind.TOKEN);
+    entry.setRevokedAt(LocalDateTime.now(ZONE));
+    entry.setExpiredAt(LocalDateTime.ofInstant(principal.getExpiration(), ZONE));
+    revokedTokenRepository.save(entry);
+    apply(entry);
+  }
+
+  /**
+   * 사용자에게 지금까지 발급된 모든 Access Token을 폐기한다. (강제 로그아웃)
+   * 토큰 발급 시각(iat)은 초 단위이므로 기준 시각을 다음 초로 올려 같은 초에 발급된 토큰도 폐기한다.
+   *
+   * @param subject 사용자 이메일
+   */
+  public void revokeSubject(String subject) {
+    Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+    RevokedToken entry = new RevokedToken();
+    entry.setRevocationKey(subject);
+    entry.setKind(RevokedToken.Kind.SUBJECT);
+    entry.setRevokedAt(LocalDateTime.ofInstant(cutoff, ZONE));
+    entry.setExpiredAt(LocalDateTime.ofInstant(cutoff.plusMillis(accessTokenValidity), ZONE));
+    revokedTokenRepository.save(entry);
+    apply(entry);
+  }
+
+  /**
+   * 다른 노드에서 추가된 폐기 기록을 가져온다.
+   */
+  @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:10000}")
+  public void syncFromStore() {
+    // 노드 간 시계 차이를 고려해 이전 동기화 시각보다 조금 앞부터 조회한다. 중복 적용은 무해하다.
+    LocalDateTime since = lastSyncedAt.minusSeconds(30);
+    LocalDateTime now = LocalDateTime.now(ZONE);
+    revokedTokenRepository.findByRevokedAtAfter(since).forEach(this::apply);
+    lastSyncedAt = now;
+  }
+
+  /**
+   * 만료된 폐기 기록을 제거하고 Bloom filter를 다시 만든다.
+   */
+  @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:300000}")
+  public void purgeExpired() {
+    long now = System.currentTimeMillis();
+    writeLock.lock();
+    try {
+      revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+      revokedSubjects.values().removeIf(cutoff -> cutoff + accessTokenValidity <= now);
+
+      BloomFilter rebuilt = new BloomFilter(
+          Math.max(expectedEntries, 2 * (revokedTokens.size() + revokedSubjects.size())), 0.01);
+      revokedTokens.keySet().forEach(tokenId -> rebuilt.put(tokenId, TOKEN_SEED));
+      revokedSubjects.keySet().forEach(subject -> rebuilt.put(subject, SUBJECT_SEED));
+      bloomFilter = rebuilt;
+    } finally {
+      writeLock.unlock();
+    }
+    revokedTokenRepository.deleteExpired(LocalDateTime.now(ZONE));
+  }
+
+  /**
+   * 현재 메모리에 유지 중인 폐기 기록 수
+   */
+  public int size() {
+    return revokedTokens.size() + revokedSubjects.size();
+  }
+
+  private void apply(RevokedToken entry) {
+    writeLock.lock();
+    try {
+      if (entry.getKind() == RevokedToken.Kind.TOKEN) {
+        long expiresAt = entry.getExpiredAt().atZone(ZONE).toInstant().toEpochMilli();
+        revokedTokens.put(entry.getRevocationKey(), expiresAt);
+        bloomFilter.put(entry.getRevocationKey(), TOKEN_SEED);
+      } else {
+        long cutoff = entry.getRevokedAt().atZone(ZONE).toInstant().toEpochMilli();
+        revokedSubjects.merge(entry.getRevocationKey(), cutoff, Math::max);
+        bloomFilter.put(entry.getRevocationKey(), SUBJECT_SEED);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+}
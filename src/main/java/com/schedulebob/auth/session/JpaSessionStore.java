@@ -0,0 +1,61 @@
+package com.schedulebob.auth.session;
+
+import com.schedulebob.auth.entity.UserSessions;
+import com.schedulebob.auth.repository.UserSessionsRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_sessions 테이블(JPA)을 사용하는 기본 세션 저장소.
+ * 여러 노드가 세션을 공유해야 하는 환경에서 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.session-store.type", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaSessionStore implements SessionStore {
+
+  private final UserSessionsRepository userSessionsRepository;
+
+  @Override
+  public void upsert(SessionRecord session) {
+    userSessionsRepository.upsertSession(session.getUserId(), session.getRefreshTokenHash(),
+        session.getIssuedAt(), session.getExpiredAt());
+  }
+
+  @Override
+  public Optional<SessionRecord> findByUserId(Long userId) {
+    return userSessionsRepository.findByUserId(userId).map(JpaSessionStore::toRecord);
+  }
+
+  @Override
+  public Optional<SessionRecord> findByRefreshTokenHash(String refreshTokenHash) {
+    return userSessionsRepository.findByRefreshTokenHash(refreshTokenHash)
+        .map(JpaSessionStore::toRecord);
+  }
+
+  @Override
+  public Optional<SessionOwner> findOwner(Long userId, String refreshTokenHash) {
+    return userSessionsRepository.findOwner(userId, refreshTokenHash);
+  }
+
+  @Override
+  public void deleteByUserId(Long userId) {
+    userSessionsRepository.deleteById(userId);
+  }
+
+  @Override
+  public int deleteExpired(LocalDateTime now, int limit) {
+    List<Long> userIds = userSessionsRepository.findExpiredUserIds(now, PageRequest.of(0, limit));
+    return userIds.isEmpty() ? 0 : userSessionsRepository.deleteExpired(userIds, now);
+  }
+
+  private static SessionRecord toRecord(UserSessions session) {
+    return new SessionRecord(session.getUserId(), session.getRefreshTokenHash(),
+        session.getIssuedAt(), session.getExpiredAt());
+  }
+}
@@ -0,0 +1,480 @@
+package com.schedulebob.auth.session;
+
+import com.schedulebob.auth.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드 배포용 인프로세스 세션 저장소.
+ *
+ * 세션은 힙 밖(direct buffer)의 고정 크기(64바이트) 슬롯에 저장되며, 슬롯 테이블은 userId를 키로 하는
+ * 개방 주소법 해시 테이블이다. Refresh Token 다이제스트로 찾기 위한 보조 인덱스(다이제스트 -> 슬롯)도
+ * 힙 밖의 int 테이블로 유지하므로, 세션 수가 늘어도 GC 대상 객체가 늘지 않는다.
+ *
+ * 재시작 시 복구를 위해 주기적으로, 그리고 종료 시 파일로 스냅샷을 남기고 시작 시 읽어 들인다.
+ * 스냅샷 이후의 변경은 비정상 종료 시 유실될 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.session-store.type", havingValue = "off-heap")
+public class OffHeapSessionStore implements SessionStore {
+
+  // 슬롯 구조: state(8) | userId(8) | issuedAt(8) | expiredAt(8) | digest(32)
+  private static final int SLOT_SIZE = 64;
+  private static final int STATE = 0;
+  private static final int USER_ID = 8;
+  private static final int ISSUED_AT = 16;
+  private static final int EXPIRED_AT = 24;
+  private static final int DIGEST = 32;
+  private static final int DIGEST_LENGTH = 32;
+
+  private static final long EMPTY = 0;
+  private static final long USED = 1;
+  private static final long DELETED = 2;
+
+  // 다이제스트 인덱스 값: 0 = 비어 있음, -1 = 삭제됨, 그 외 = 슬롯 번호 + 1
+  private static final int INDEX_EMPTY = 0;
+  private static final int INDEX_DELETED = -1;
+
+  // 만료 세션 삭제 시 쓰기 잠금 한 번에 훑는 최대 슬롯 수
+  private static final int SWEEP_SEGMENT = 4096;
+
+  private static final int SNAPSHOT_MAGIC = 0x53424f42;
+  private static final int SNAPSHOT_VERSION = 1;
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+  private static final HexFormat HEX = HexFormat.of();
+
+  private final StampedLock lock = new StampedLock();
+  private final UserRepository userRepository;
+  private final Path snapshotPath;
+
+  private ByteBuffer slots;
+  private IntBuffer digestIndex;
+  private int capacity;
+  private int usedCount;
+  private int deletedSlotCount;
+  private int deletedIndexCount;
+  private int sweepCursor;
+
+  /**
+   * OffHeapSessionStore 생성자.
+   *
+   * @param userRepository 재발급 시 사용자 정보 조회용 리포지토리
+   * @param initialCapacity 초기 슬롯 수 (2의 거듭제곱으로 올림)
+   * @param snapshotPath 스냅샷 파일 경로, 비어 있으면 스냅샷을 사용하지 않음
+   */
+  public OffHeapSessionStore(UserRepository userRepository,
+      @Value("${auth.session-store.off-heap.initial-capacity:65536}") int initialCapacity,
+      @Value("${auth.session-store.off-heap.snapshot-path:}") String snapshotPath) {
+    this.userRepository = userRepository;
+    this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    allocate(Math.max(16, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1));
+  }
+
+  @Override
+  public void upsert(SessionRecord session) {
+    byte[] digest = HEX.parseHex(session.getRefreshTokenHash());
+    long stamp = lock.writeLock();
+    try {
+      ensureCapacity();
+      int slot = findSlotByUserId(session.getUserId());
+      if (slot >= 0) {
+        removeIndexEntry(slot);
+      } else {
+        slot = claimSlot(session.getUserId());
+      }
+      writeSlot(slot, session, digest);
+      insertIndexEntry(slot, digest);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public Optional<SessionRecord> findByUserId(Long userId) {
+    long stamp = lock.readLock();
+    try {
+      int slot = findSlotByUserId(userId);
+      return slot < 0 ? Optional.empty() : Optional.of(readSlot(slot));
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public Optional<SessionRecord> findByRefreshTokenHash(String refreshTokenHash) {
+    byte[] digest = HEX.parseHex(refreshTokenHash);
+    long stamp = lock.readLock();
+    try {
+      int position = findIndexPosition(digest, -1);
+      return position < 0
+          ? Optional.empty()
+          : Optional.of(readSlot(digestIndex.get(position) - 1));
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * 세션은 메모리에서 확인하고, 사용자 정보는 캐시가 적용된 UserRepository.findSummaryById로 조회한다.
+   */
+  @Override
+  public Optional<SessionOwner> findOwner(Long userId, String refreshTokenHash) {
+    return findByRefreshTokenHash(refreshTokenHash)
+        .filter(session -> session.getUserId().equals(userId))
+        .flatMap(session -> userRepository.findSummaryById(userId))
+        .map(user -> new SessionOwner(user.getId(), user.getEmail(), user.getRole()));
+  }
+
+  @Override
+  public void deleteByUserId(Long userId) {
+    long stamp = lock.writeLock();
+    try {
+      int slot = findSlotByUserId(userId);
+      if (slot >= 0) {
+        deleteSlot(slot);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * 만료된 세션 삭제.
+   * 이전 호출이 멈춘 슬롯부터 이어서 훑으므로 여러 묶음으로 나눠 호출해도 전체 슬롯을 한 바퀴만 돈다.
+   * 쓰기 잠금은 SWEEP_SEGMENT 슬롯마다 풀었다가 다시 잡아 로그인/재발급이 오래 막히지 않게 한다.
+   * 한 바퀴를 다 돌고도 limit에 못 미치면 그 건수를 반환한다.
+   */
+  @Override
+  public int deleteExpired(LocalDateTime now, int limit) {
+    long nowMillis = toMillis(now);
+    int deleted = 0;
+    int visited = 0;
+    while (deleted < limit) {
+      long stamp = lock.writeLock();
+      try {
+        if (visited >= capacity) {
+          break;
+        }
+        if (sweepCursor >= capacity) {
+          sweepCursor = 0;
+        }
+        int segmentEnd = Math.min(visited + SWEEP_SEGMENT, capacity);
+        for (; visited < segmentEnd && deleted < limit; visited++) {
+          int offset = sweepCursor * SLOT_SIZE;
+          if (slots.getLong(offset + STATE) == USED && slots.getLong(offset + EXPIRED_AT) < nowMillis) {
+            deleteSlot(sweepCursor);
+            deleted++;
+          }
+          sweepCursor = sweepCursor + 1 == capacity ? 0 : sweepCursor + 1;
+        }
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * 현재 저장된 세션 수
+   */
+  public int size() {
+    long stamp = lock.readLock();
+    try {
+      return usedCount;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * 시작 시 스냅샷 파일에서 만료되지 않은 세션을 복원한다.
+   */
+  @PostConstruct
+  public void restore() {
+    if (snapshotPath == null || !Files.exists(snapshotPath)) {
+      return;
+    }
+    long nowMillis = System.currentTimeMillis();
+    int restored = 0;
+    try (InputStream in = Files.newInputStream(snapshotPath);
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+      if (data.readInt() != SNAPSHOT_MAGIC || data.readInt() != SNAPSHOT_VERSION) {
+        log.warn("세션 스냅샷 형식이 올바르지 않아 무시합니다: {}", snapshotPath);
+        return;
+      }
+      int count = data.readInt();
+      byte[] digest = new byte[DIGEST_LENGTH];
+      for (int i = 0; i < count; i++) {
+        long userId = data.readLong();
+        long issuedAt = data.readLong();
+        long expiredAt = data.readLong();
+        data.readFully(digest);
+        if (expiredAt > nowMillis) {
+          upsert(new SessionRecord(userId, HEX.formatHex(digest),
+              toDateTime(issuedAt), toDateTime(expiredAt)));
+          restored++;
+        }
+      }
+      log.info("세션 스냅샷에서 {}건을 복원했습니다.", restored);
+    } catch (IOException e) {
+      log.warn("세션 스냅샷을 읽지 못했습니다: {}", snapshotPath, e);
+    }
+  }
+
+  /**
+   * 현재 세션을 스냅샷 파일로 저장한다.
+   * 잠금은 슬롯 영역을 복사하는 동안만 잡고, 파일 쓰기는 잠금 밖에서 수행한다.
+   * 임시 파일에 쓴 뒤 교체하므로 저장 중 종료되어도 이전 스냅샷은 유지된다.
+   */
+  @Scheduled(fixedDelayString = "${auth.session-store.off-heap.snapshot-interval-ms:60000}")
+  public void snapshot() {
+    if (snapshotPath == null) {
+      return;
+    }
+
+    ByteBuffer copy;
+    int count;
+    long stamp = lock.readLock();
+    try {
+      copy = ByteBuffer.allocate(capacity * SLOT_SIZE);
+      copy.put(0, slots, 0, capacity * SLOT_SIZE);
+      count = usedCount;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    try {
+      Path parent = snapshotPath.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path temp = Files.createTempFile(parent, "sessions", ".tmp");
+      byte[] digest = new byte[DIGEST_LENGTH];
+
+      try (OutputStream out = Files.newOutputStream(temp);
+          DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))) {
+        data.writeInt(SNAPSHOT_MAGIC);
+        data.writeInt(SNAPSHOT_VERSION);
+        data.writeInt(count);
+        for (int offset = 0; offset < copy.capacity(); offset += SLOT_SIZE) {
+          if (copy.getLong(offset + STATE) != USED) {
+            continue;
+          }
+          data.writeLong(copy.getLong(offset + USER_ID));
+          data.writeLong(copy.getLong(offset + ISSUED_AT));
+          data.writeLong(copy.getLong(offset + EXPIRED_AT));
+          copy.get(offset + DIGEST, digest);
+          data.write(digest);
+        }
+      }
+
+      Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("세션 스냅샷을 저장하지 못했습니다: {}", snapshotPath, e);
+    }
+  }
+
+  /**
+   * 종료 시 마지막 스냅샷을 남긴다.
+   */
+  @PreDestroy
+  public void shutdown() {
+    snapshot();
+  }
+
+  private void allocate(int newCapacity) {
+    this.capacity = newCapacity;
+    this.slots = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+    this.digestIndex = ByteBuffer.allocateDirect(newCapacity * Integer.BYTES).asIntBuffer();
+    this.usedCount = 0;
+    this.deletedSlotCount = 0;
+    this.deletedIndexCount = 0;
+  }
+
+  // 삭제 표시를 포함한 점유율이 50%를 넘으면 다시 배치한다. 실제 사용량이 많으면 두 배로 늘린다.
+  private void ensureCapacity() {
+    int occupied = usedCount + Math.max(deletedSlotCount, deletedIndexCount) + 1;
+    if (occupied * 2 <= capacity) {
+      return;
+    }
+    int newCapacity = (usedCount + 1) * 4 > capacity ? capacity * 2 : capacity;
+
+    ByteBuffer oldSlots = slots;
+    int oldCapacity = capacity;
+    allocate(newCapacity);
+
+    byte[] digest = new byte[DIGEST_LENGTH];
+    for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+      int from = oldSlot * SLOT_SIZE;
+      if (oldSlots.getLong(from + STATE) != USED) {
+        continue;
+      }
+      long userId = oldSlots.getLong(from + USER_ID);
+      int slot = claimSlot(userId);
+      slots.put(slot * SLOT_SIZE, oldSlots, from, SLOT_SIZE);
+      oldSlots.get(from + DIGEST, digest);
+      insertIndexEntry(slot, digest);
+    }
+  }
+
+  private int findSlotByUserId(long userId) {
+    int slot = (int) mix(userId) & (capacity - 1);
+    while (true) {
+      int offset = slot * SLOT_SIZE;
+      long state = slots.getLong(offset + STATE);
+      if (state == EMPTY) {
+        return -1;
+      }
+      if (state == USED && slots.getLong(offset + USER_ID) == userId) {
+        return slot;
+      }
+      slot = (slot + 1) & (capacity - 1);
+    }
+  }
+
+  // 호출 전에 같은 userId의 슬롯이 없음을 확인해야 한다.
+  private int claimSlot(long userId) {
+    int slot = (int) mix(userId) & (capacity - 1);
+    while (true) {
+      long state = slots.getLong(slot * SLOT_SIZE + STATE);
+      if (state == EMPTY) {
+        usedCount++;
+        return slot;
+      }
+      if (state == DELETED) {
+        deletedSlotCount--;
+        usedCount++;
+        return slot;
+      }
+      slot = (slot + 1) & (capacity - 1);
+    }
+  }
+
+  private void deleteSlot(int slot) {
+    removeIndexEntry(slot);
+    slots.putLong(slot * SLOT_SIZE + STATE, DELETED);
+    usedCount--;
+    deletedSlotCount++;
+  }
+
+  private void writeSlot(int slot, SessionRecord session, byte[] digest) {
+    int offset = slot * SLOT_SIZE;
+    slots.putLong(offset + STATE, USED);
+    slots.putLong(offset + USER_ID, session.getUserId());
+    slots.putLong(offset + ISSUED_AT, toMillis(session.getIssuedAt()));
+    slots.putLong(offset + EXPIRED_AT, toMillis(session.getExpiredAt()));
+    slots.put(offset + DIGEST, digest);
+  }
+
+  private SessionRecord readSlot(int slot) {
+    int offset = slot * SLOT_SIZE;
+    byte[] digest = new byte[DIGEST_LENGTH];
+    slots.get(offset + DIGEST, digest);
+    return new SessionRecord(
+        slots.getLong(offset + USER_ID),
+        HEX.formatHex(digest),
+        toDateTime(slots.getLong(offset + ISSUED_AT)),
+        toDateTime(slots.getLong(offset + EXPIRED_AT)));
+  }
+
+  /**
+   * 다이제스트 인덱스에서 위치를 찾는다.
+   *
+   * @param digest 찾을 다이제스트
+   * @param expectedSlot 특정 슬롯을 가리키는 항목만 찾으려면 슬롯 번호, 아니면 -1
+   * @return 인덱스 위치, 없으면 -1
+   */
+  private int findIndexPosition(byte[] digest, int expectedSlot) {
+    int position = (int) mix(firstLong(digest)) & (capacity - 1);
+    while (true) {
+      int value = digestIndex.get(position);
+      if (value == INDEX_EMPTY) {
+        return -1;
+      }
+      if (value > 0) {
+        int slot = value - 1;
+        if (expectedSlot < 0 ? digestEquals(slot, digest) : slot == expectedSlot) {
+          return position;
+        }
+      }
+      position = (position + 1) & (capacity - 1);
+    }
+  }
+
+  private void insertIndexEntry(int slot, byte[] digest) {
+    int position = (int) mix(firstLong(digest)) & (capacity - 1);
+    while (true) {
+      int value = digestIndex.get(position);
+      if (value == INDEX_EMPTY || value == INDEX_DELETED) {
+        if (value == INDEX_DELETED) {
+          deletedIndexCount--;
+        }
+        digestIndex.put(position, slot + 1);
+        return;
+      }
+      position = (position + 1) & (capacity - 1);
+    }
+  }
+
+  private void removeIndexEntry(int slot) {
+    byte[] digest = new byte[DIGEST_LENGTH];
+    slots.get(slot * SLOT_SIZE + DIGEST, digest);
+    int position = findIndexPosition(digest, slot);
+    if (position >= 0) {
+      digestIndex.put(position, INDEX_DELETED);
+      deletedIndexCount++;
+    }
+  }
+
+  private boolean digestEquals(int slot, byte[] digest) {
+    int offset = slot * SLOT_SIZE + DIGEST;
+    for (int i = 0; i < DIGEST_LENGTH; i++) {
+      if (slots.get(offset + i) != digest[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long firstLong(byte[] digest) {
+    return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  private static long toMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+  }
+
+  private static LocalDateTime toDateTime(long millis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+  }
+}
@@ -0,0 +1,28 @@
+package com.schedulebob.auth.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Access Token 재발급에 필요한 세션 소유자 정보 프로젝션.
+ * 엔티티 전체 대신 토큰 서명에 필요한 컬럼만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionOwner {
+
+  /**
+   * 사용자 ID
+   */
+  private final Long userId;
+
+  /**
+   * 사용자 이메일 (토큰 Subject)
+   */
+  private final String email;
+
+  /**
+   * 사용자 권한
+   */
+  private final String role;
+}
@@ -0,0 +1,34 @@
+package com.schedulebob.auth.session;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장소에 독립적인 세션 정보 불변 객체.
+ * 사용자당 하나의 세션을 나타낸다.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionRecord {
+
+  /**
+   * 사용자 ID
+   */
+  private final Long userId;
+
+  /**
+   * 리프레시 토큰의 SHA-256 다이제스트 (64자리 16진수)
+   */
+  private final String refreshTokenHash;
+
+  /**
+   * 토큰 발급 일시
+   */
+  private final LocalDateTime issuedAt;
+
+  /**
+   * 토큰 만료 일시
+   */
+  private final LocalDateTime expiredAt;
+}
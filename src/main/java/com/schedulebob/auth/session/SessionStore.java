@@ -0,0 +1,59 @@
+package com.schedulebob.auth.session;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 로그인 세션 저장소 추상화.
+ * auth.session-store.type 설정으로 구현체(jpa, off-heap)를 선택한다.
+ */
+public interface SessionStore {
+
+  /**
+   * 사용자 세션을 생성하거나 갱신
+   *
+   * @param session 저장할 세션
+   */
+  void upsert(SessionRecord session);
+
+  /**
+   * 사용자 ID로 세션 조회
+   *
+   * @param userId 사용자 ID
+   * @return 세션 존재 시 반환
+   */
+  Optional<SessionRecord> findByUserId(Long userId);
+
+  /**
+   * Refresh Token 다이제스트로 세션 조회
+   *
+   * @param refreshTokenHash 리프레시 토큰의 SHA-256 16진수 다이제스트
+   * @return 세션 존재 시 반환
+   */
+  Optional<SessionRecord> findByRefreshTokenHash(String refreshTokenHash);
+
+  /**
+   * Refresh Token 다이제스트와 사용자 ID가 모두 일치하는 세션의 소유자 정보 조회 (토큰 재발급용)
+   *
+   * @param userId 토큰의 사용자 ID(uid 클레임)
+   * @param refreshTokenHash 리프레시 토큰의 SHA-256 16진수 다이제스트
+   * @return 세션 소유자 정보, 일치하는 세션이 없으면 빈 Optional
+   */
+  Optional<SessionOwner> findOwner(Long userId, String refreshTokenHash);
+
+  /**
+   * 사용자 세션 삭제
+   *
+   * @param userId 사용자 ID
+   */
+  void deleteByUserId(Long userId);
+
+  /**
+   * 만료된 세션을 최대 limit 건까지 삭제
+   *
+   * @param now 기준 시각
+   * @param limit 최대 삭제 건수
+   * @return 삭제된 세션 수
+   */
+  int deleteExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,51 @@
+package com.schedulebob.global.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정 클래스.
+ * 캐시 구현(Caffeine)과 캐시별 크기/TTL은 application.yml의 spring.cache 항목에서 설정한다.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+  /**
+   * 이메일로 조회한 사용자 캐시 이름
+   */
+  public static final String USERS_BY_EMAIL = "usersByEmail";
+
+  /**
+   * ID로 조회한 사용자 캐시 이름
+   */
+  public static final String USERS_BY_ID = "usersById";
+
+  /**
+   * 가상 스레드 모드의 캐시 매니저.
+   * 로더를 잠금 밖에서 실행해 캐시 로딩 중 캐리어 스레드 고정(pinning)을 막는다.
+   * 스펙과 캐시 이름은 spring.cache 설정을 그대로 사용한다.
+   *
+   * @param cacheProperties spring.cache 설정 (캐시 크기/TTL 스펙)
+   * @return VirtualThreadCaffeineCacheManager 인스턴스
+   */
+  @Bean
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public CaffeineCacheManager cacheManager(CacheProperties cacheProperties) {
+    CaffeineCacheManager cacheManager = new VirtualThreadCaffeineCacheManager();
+    String spec = cacheProperties.getCaffeine().getSpec();
+    if (spec != null) {
+      cacheManager.setCaffeineSpec(CaffeineSpec.parse(spec));
+    }
+    cacheManager.setCacheNames(cacheProperties.getCacheNames());
+    return cacheManager;
+  }
+}
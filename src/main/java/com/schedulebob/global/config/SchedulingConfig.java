@@ -0,0 +1,13 @@
+package com.schedulebob.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스.
+ * 쓰기 지연 버퍼 플러시 등 주기적인 백그라운드 작업을 위해 @Scheduled를 활성화한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,40 @@
+package com.schedulebob.global.config;
+
+import java.lang.management.ManagementFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 완료(ApplicationReadyEvent) 시점까지 걸린 시간을 기록한다.
+ * JVM 시작 기준 시간을 함께 남겨 AOT, CDS, 지연 초기화 모드의 기동 시간을 비교하는 데 사용한다.
+ * startup.exit-on-ready=true 이면 기록 후 바로 종료한다 (gradle startupBenchmark에서 사용).
+ */
+@Slf4j
+@Component
+public class StartupTimeReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+  @Value("${startup.exit-on-ready:false}")
+  private boolean exitOnReady;
+
+  @Value("${spring.main.lazy-initialization:false}")
+  private boolean lazyInitialization;
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    log.info("startup.ready-ms={} startup.context-ms={} aot={} lazy={}",
+        readyMillis,
+        event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1,
+        AotDetector.useGeneratedArtifacts(),
+        lazyInitialization);
+
+    if (exitOnReady) {
+      System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+    }
+  }
+}
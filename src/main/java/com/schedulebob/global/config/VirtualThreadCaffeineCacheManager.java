@@ -0,0 +1,70 @@
+package com.schedulebob.global.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * 가상 스레드 모드용 CaffeineCacheManager.
+ * 동기 모드의 get(key, loader)는 ConcurrentHashMap.compute의 synchronized 블록 안에서 로더(DB 조회)를
+ * 실행하므로 JDK 21에서는 조회가 끝날 때까지 캐리어 스레드가 고정된다.
+ * 이 캐시는 잠금 안에서는 미완료 Future만 등록하고, 로더는 잠금 밖에서 호출한 스레드가 직접 실행한다.
+ * 호출 스레드에서 실행하므로 진행 중인 트랜잭션과 커넥션을 그대로 사용한다.
+ */
+public class VirtualThreadCaffeineCacheManager extends CaffeineCacheManager {
+
+  public VirtualThreadCaffeineCacheManager() {
+    setAsyncCacheMode(true);
+  }
+
+  @Override
+  protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+    return new CallerLoadingCache(name, cache, isAllowNullValues());
+  }
+
+  /**
+   * 같은 키의 동시 로딩은 먼저 등록한 스레드 하나만 실행하고, 나머지는 그 Future를 기다린다.
+   */
+  static class CallerLoadingCache extends CaffeineCache {
+
+    CallerLoadingCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues) {
+      super(name, cache, allowNullValues);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+      AsyncCache<Object, Object> cache = getAsyncCache();
+      CompletableFuture<Object> existing = cache.getIfPresent(key);
+      if (existing == null) {
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing == null) {
+          return (T) fromStoreValue(load(key, valueLoader, loading));
+        }
+      }
+      try {
+        return (T) fromStoreValue(existing.join());
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+      }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader, CompletableFuture<Object> loading) {
+      try {
+        Object value = toStoreValue(valueLoader.call());
+        loading.complete(value);
+        return value;
+      } catch (Throwable ex) {
+        getAsyncCache().asMap().remove(key, loading);
+        ValueRetrievalException failure = new ValueRetrievalException(key, valueLoader, ex);
+        loading.completeExceptionally(failure);
+        throw failure;
+      }
+    }
+  }
+}
@@ -1,11 +1,26 @@
 package com.schedulebob.global.exception;
 
+import org.springframework.http.HttpStatus;
+
 /**
  * 서비스 계층 인증이나 비즈니스 예외 처리용 커스텀 예외.
  * RuntimeException을 상속하여 사용한다.
+ * 응답 상태 코드를 지정하지 않으면 400(BAD_REQUEST)으로 응답한다.
  */
 public class CustomException extends RuntimeException {
+
+  private final HttpStatus status;
+
   public CustomException(String message) {
+    this(message, HttpStatus.BAD_REQUEST);
+  }
+
+  public CustomException(String message, HttpStatus status) {
     super(message);
+    this.status = status;
+  }
+
+  public HttpStatus getStatus() {
+    return status;
   }
-}
\ No newline at end of file
+}
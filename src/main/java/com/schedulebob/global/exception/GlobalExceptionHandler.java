@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 /**
  * 전역 예외 처리 핸들러.
@@ -15,11 +16,12 @@ public class GlobalExceptionHandler {
 
   /**
    * CustomException 처리 메서드.
+   * 예외에 지정된 상태 코드로 응답한다.
    */
   @ExceptionHandler(CustomException.class)
   public ResponseEntity<ErrorResponse> handleCustomException(CustomException ex) {
-    ErrorResponse response = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST.value());
-    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    ErrorResponse response = new ErrorResponse(ex.getMessage(), ex.getStatus().value());
+    return ResponseEntity.status(ex.getStatus()).body(response);
   }
 
   /**
@@ -32,6 +34,16 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
   }
 
+  /**
+   * 컨트롤러 메서드 파라미터 유효성 검사 실패 처리 (목록 요청의 각 항목 검증 등).
+   */
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  public ResponseEntity<ErrorResponse> handleMethodValidationException(HandlerMethodValidationException ex) {
+    String errorMsg = ex.getAllErrors().get(0).getDefaultMessage();
+    ErrorResponse response = new ErrorResponse(errorMsg, HttpStatus.BAD_REQUEST.value());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+  }
+
   /**
    * 기타 모든 런타임 예외 처리.
    */
@@ -0,0 +1,134 @@
+package com.schedulebob.global.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(이메일, IP 등)별 토큰 버킷 방식의 요청 제한기.
+ *
+ * 각 버킷은 "다음 토큰이 가득 차는 이론적 시각(TAT)" 하나만 AtomicLong으로 저장하고,
+ * CAS로 갱신하므로 요청 경로에 잠금이 없다 (GCRA, 토큰 버킷과 동일한 동작).
+ * 키는 여러 개의 ConcurrentHashMap 스트라이프로 나누어 저장하며,
+ * 스트라이프별 최대 항목 수를 넘으면 작은 표본에서 가장 먼저 가득 차는 버킷 하나만 내보내므로,
+ * 새 키가 몰려도(무작위 이메일 대입 등) 요청당 비용은 스트라이프 크기와 무관하다.
+ * 유휴 버킷 전체 정리는 주기적으로 호출되는 evictIdle()이 맡는다.
+ * 유휴 버킷은 제거해도 다음 요청에서 같은 상태로 다시 생성되므로 제한 동작이 바뀌지 않는다.
+ */
+public class StripedRateLimiter {
+
+  private static final int EVICTION_SAMPLE_SIZE = 8;
+
+  private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+  private final int stripeMask;
+  private final int maxEntriesPerStripe;
+  private final long emissionIntervalNanos;
+  private final long capacityNanos;
+
+  /**
+   * StripedRateLimiter 생성자.
+   *
+   * @param capacity 버킷 최대 토큰 수 (순간 허용량)
+   * @param refillPeriod capacity만큼 토큰이 다시 채워지는 시간
+   * @param refillUnit refillPeriod의 시간 단위
+   * @param maxEntries 추적할 최대 키 수
+   */
+  @SuppressWarnings("unchecked")
+  public StripedRateLimiter(int capacity, long refillPeriod, TimeUnit refillUnit, int maxEntries) {
+    if (capacity <= 0 || refillPeriod <= 0 || maxEntries <= 0) {
+      throw new IllegalArgumentException("capacity, refillPeriod and maxEntries must be positive");
+    }
+    int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(64, maxEntries / 64)));
+    this.stripes = new ConcurrentHashMap[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new ConcurrentHashMap<>();
+    }
+    this.stripeMask = stripeCount - 1;
+    this.maxEntriesPerStripe = Math.max(1, maxEntries / stripeCount);
+    this.emissionIntervalNanos = Math.max(1, refillUnit.toNanos(refillPeriod) / capacity);
+    this.capacityNanos = emissionIntervalNanos * capacity;
+  }
+
+  /**
+   * 키에 대한 토큰 하나를 소비한다.
+   *
+   * @param key 제한 대상 키
+   * @return 허용되면 true, 제한되면 false
+   */
+  public boolean tryAcquire(String key) {
+    long now = System.nanoTime();
+    ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(key);
+
+    AtomicLong bucket = stripe.get(key);
+    if (bucket == null) {
+      if (stripe.size() >= maxEntriesPerStripe) {
+        makeRoom(stripe);
+      }
+      bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    while (true) {
+      long tat = bucket.get();
+      long newTat = Math.max(tat, now) + emissionIntervalNanos;
+      if (newTat - now > capacityNanos) {
+        return false;
+      }
+      if (bucket.compareAndSet(tat, newTat)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 토큰이 가득 찬(유휴) 버킷을 모든 스트라이프에서 제거한다.
+   *
+   * @return 제거된 키 수
+   */
+  public int evictIdle() {
+    long now = System.nanoTime();
+    int evicted = 0;
+    for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+      evicted += evictIdle(stripe, now);
+    }
+    return evicted;
+  }
+
+  /**
+   * 현재 추적 중인 키 수
+   */
+  public int size() {
+    int size = 0;
+    for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private int evictIdle(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+    int before = stripe.size();
+    stripe.values().removeIf(bucket -> bucket.get() - now <= 0);
+    return before - stripe.size();
+  }
+
+  // 스트라이프 전체를 훑지 않고, 표본 중 가장 먼저 채워질(유휴 버킷이 있으면 그중 하나) 버킷만 내보낸다.
+  private void makeRoom(ConcurrentHashMap<String, AtomicLong> stripe) {
+    Map.Entry<String, AtomicLong> victim = null;
+    Iterator<Map.Entry<String, AtomicLong>> it = stripe.entrySet().iterator();
+    for (int i = 0; i < EVICTION_SAMPLE_SIZE && it.hasNext(); i++) {
+      Map.Entry<String, AtomicLong> candidate = it.next();
+      if (victim == null || candidate.getValue().get() - victim.getValue().get() < 0) {
+        victim = candidate;
+      }
+    }
+    if (victim != null) {
+      stripe.remove(victim.getKey(), victim.getValue());
+    }
+  }
+
+  private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+    int h = key.hashCode();
+    return stripes[(h ^ (h >>> 16)) & stripeMask];
+  }
+}
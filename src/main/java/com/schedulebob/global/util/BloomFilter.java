@@ -0,0 +1,95 @@
+package com.schedulebob.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom filter.
+ * 포함 여부 확인은 몇 번의 해시 계산과 비트 조회만으로 끝나며 객체를 생성하지 않는다.
+ * false는 확실히 없음을, true는 "있을 수 있음"을 의미한다.
+ *
+ * 같은 필터에 서로 다른 종류의 키를 넣을 때는 seed로 구분한다.
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * BloomFilter 생성자.
+   *
+   * @param expectedInsertions 예상 키 수
+   * @param falsePositiveRate 허용 오탐률 (0 초과 1 미만)
+   */
+  public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    int n = Math.max(1, expectedInsertions);
+    long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    int wordCount = (int) Math.max(1, (bits + 63) / 64);
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = wordCount * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+  }
+
+  /**
+   * 키 추가
+   *
+   * @param key 키 문자열
+   * @param seed 키 종류 구분값
+   */
+  public void put(CharSequence key, long seed) {
+    long hash = hash(key, seed);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = index(h1 + i * h2);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current;
+      do {
+        current = words.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!words.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  /**
+   * 키가 포함되어 있을 수 있는지 확인
+   *
+   * @param key 키 문자열
+   * @param seed 키 종류 구분값
+   * @return 확실히 없으면 false
+   */
+  public boolean mightContain(CharSequence key, long seed) {
+    long hash = hash(key, seed);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = index(h1 + i * h2);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long index(int combined) {
+    return (combined & 0x7fffffffL) % bitCount;
+  }
+
+  // FNV-1a 64비트 해시에 murmur3 finalizer로 비트를 고르게 섞는다.
+  private static long hash(CharSequence key, long seed) {
+    long h = 0xcbf29ce484222325L ^ seed;
+    for (int i = 0, len = key.length(); i < len; i++) {
+      h ^= key.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
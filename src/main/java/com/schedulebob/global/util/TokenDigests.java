@@ -0,0 +1,59 @@
+package com.schedulebob.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 문자열의 SHA-256 다이제스트를 계산하는 유틸리티.
+ * 원본 토큰 대신 고정 길이 다이제스트를 캐시 키나 DB 조회 키로 사용하기 위해 사용한다.
+ */
+public final class TokenDigests {
+
+  private static final MessageDigest PROTOTYPE;
+
+  static {
+    try {
+      PROTOTYPE = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private TokenDigests() {
+  }
+
+  /**
+   * 토큰의 SHA-256 다이제스트(32바이트) 계산
+   *
+   * @param token 토큰 문자열
+   * @return 다이제스트 바이트 배열
+   */
+  public static byte[] sha256(String token) {
+    return newDigest().digest(token.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 토큰의 SHA-256 다이제스트를 64자리 소문자 16진수 문자열로 계산
+   *
+   * @param token 토큰 문자열
+   * @return 16진수 다이제스트
+   */
+  public static String sha256Hex(String token) {
+    return HexFormat.of().formatHex(sha256(token));
+  }
+
+  // Provider 조회 비용을 피하기 위해 미리 만든 인스턴스를 복제해 사용한다.
+  private static MessageDigest newDigest() {
+    try {
+      return (MessageDigest) PROTOTYPE.clone();
+    } catch (CloneNotSupportedException e) {
+      try {
+        return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException ex) {
+        throw new IllegalStateException(ex);
+      }
+    }
+  }
+}
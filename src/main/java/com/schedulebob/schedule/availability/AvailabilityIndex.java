@@ -0,0 +1,160 @@
+package com.schedulebob.schedule.availability;
+
+import com.schedulebob.auth.event.UserStoreChangedEvent;
+import com.schedulebob.schedule.repository.WorkerAvailabilityRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장별 근무 가능 시간 인메모리 인덱스.
+ * 매장을 처음 조회할 때 소속 직원의 비트맵을 한 번의 쿼리로 적재하고,
+ * 이후에는 근무 가능 시간이 바뀐 직원만 스냅샷에 반영한다.
+ *
+ * 조회는 현재 스냅샷을 잠금 없이 읽는다. 적재 쿼리는 맵 잠금 밖에서 먼저 자리를 차지한 호출 스레드가 실행하고,
+ * 같은 매장을 동시에 조회한 스레드는 그 Future를 기다린다.
+ * 변경은 이 노드에서 커밋된 것만 반영되므로, 다른 노드의 변경은 적재 후 ttl이 지나 다시 적재할 때 반영된다.
+ */
+@Component
+public class AvailabilityIndex {
+
+  private final ConcurrentHashMap<Long, Snapshot> stores = new ConcurrentHashMap<>();
+  private final WorkerAvailabilityRepository workerAvailabilityRepository;
+  private final long ttlNanos;
+
+  public AvailabilityIndex(WorkerAvailabilityRepository workerAvailabilityRepository,
+      @Value("${schedule.availability.ttl-ms:60000}") long ttlMillis) {
+    this.workerAvailabilityRepository = workerAvailabilityRepository;
+    this.ttlNanos = Duration.ofMillis(ttlMillis).toNanos();
+  }
+
+  /**
+   * 근무 시간 전체에 근무 가능한 매장 직원 ID 목록
+   *
+   * @param storeId 매장 ID
+   * @param startAt 근무 시작 일시
+   * @param endAt 근무 종료 일시
+   * @return 직원 ID 목록
+   */
+  public List<Long> findAvailable(Long storeId, LocalDateTime startAt, LocalDateTime endAt) {
+    return store(storeId).findAvailable(WeeklyAvailability.slotOf(startAt), slotCount(startAt, endAt));
+  }
+
+  /**
+   * 근무 시간 전체에 근무 가능한 매장 직원 수
+   */
+  public int countAvailable(Long storeId, LocalDateTime startAt, LocalDateTime endAt) {
+    return store(storeId).countAvailable(WeeklyAvailability.slotOf(startAt), slotCount(startAt, endAt));
+  }
+
+  /**
+   * 직원의 근무 가능 시간 변경 반영
+   * 아직 적재되지 않은 매장은 다음 조회 때 DB에서 최신 값을 읽으므로 건너뛴다.
+   *
+   * @param storeId 매장 ID
+   * @param userId 직원 ID
+   * @param availability 변경된 근무 가능 시간
+   */
+  public void update(Long storeId, Long userId, WeeklyAvailability availability) {
+    stores.computeIfPresent(storeId, (id, snapshot) -> snapshot.map(store -> store.with(userId, availability)));
+  }
+
+  /**
+   * 매장 스냅샷 제거 (직원의 매장 이동 등 전체 재적재가 필요할 때)
+   *
+   * @param storeId 매장 ID
+   */
+  public void evict(Long storeId) {
+    if (storeId != null) {
+      stores.remove(storeId);
+    }
+  }
+
+  /**
+   * 직원이 매장을 옮기거나 삭제되면 이전 매장과 새 매장의 스냅샷을 모두 버린다.
+   * 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 후에 처리한다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserStoreChanged(UserStoreChangedEvent event) {
+    evict(event.getPreviousStoreId());
+    evict(event.getStoreId());
+  }
+
+  private StoreAvailability store(Long storeId) {
+    while (true) {
+      Snapshot snapshot = stores.get(storeId);
+      if (snapshot == null || snapshot.isExpired()) {
+        Snapshot loading = new Snapshot(new CompletableFuture<>(), System.nanoTime() + ttlNanos);
+        boolean claimed = snapshot == null
+            ? stores.putIfAbsent(storeId, loading) == null
+            : stores.replace(storeId, snapshot, loading);
+        if (claimed) {
+          return load(storeId, loading);
+        }
+        continue;
+      }
+      try {
+        return snapshot.future.join();
+      } catch (CompletionException e) {
+        // 적재 중 변경이 이어 붙은 Future는 적재 스레드가 지우지 못하므로 여기서 지운다.
+        stores.remove(storeId, snapshot);
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+  }
+
+  private StoreAvailability load(Long storeId, Snapshot loading) {
+    try {
+      StoreAvailability store = StoreAvailability.empty();
+      for (WorkerSlots worker : workerAvailabilityRepository.findStoreSlots(storeId)) {
+        store = store.with(worker.getUserId(), WeeklyAvailability.fromBytes(worker.getSlots()));
+      }
+      loading.future.complete(store);
+      return store;
+    } catch (Throwable e) {
+      stores.remove(storeId, loading);
+      loading.future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * 근무 시간이 걸쳐 있는 슬롯 수 (시작은 슬롯 단위로 내림, 종료는 올림)
+   */
+  private static int slotCount(LocalDateTime startAt, LocalDateTime endAt) {
+    long offset = (startAt.getHour() * 60L + startAt.getMinute()) % WeeklyAvailability.SLOT_MINUTES;
+    long minutes = Duration.between(startAt.withSecond(0).withNano(0), endAt).toMinutes();
+    return (int) Math.min(WeeklyAvailability.SLOTS,
+        Math.max(1, (offset + minutes + WeeklyAvailability.SLOT_MINUTES - 1) / WeeklyAvailability.SLOT_MINUTES));
+  }
+
+  /**
+   * 매장 스냅샷과 만료 시각.
+   * 만료 시각은 적재할 때 정하며, 변경을 반영해도 늘어나지 않는다.
+   */
+  private static final class Snapshot {
+
+    private final CompletableFuture<StoreAvailability> future;
+    private final long expiresAt;
+
+    private Snapshot(CompletableFuture<StoreAvailability> future, long expiresAt) {
+      this.future = future;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - expiresAt > 0;
+    }
+
+    private Snapshot map(UnaryOperator<StoreAvailability> change) {
+      return new Snapshot(future.thenApply(change), expiresAt);
+    }
+  }
+}
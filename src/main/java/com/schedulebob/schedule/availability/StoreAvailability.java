@@ -0,0 +1,128 @@
+package com.schedulebob.schedule.availability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 매장 직원들의 근무 가능 시간을 슬롯 기준으로 뒤집어 담은 불변 스냅샷.
+ * 슬롯마다 "그 시간에 가능한 직원" 비트셋(직원 64명당 long 하나)을 두므로,
+ * 근무 시간대에 가능한 직원은 해당 슬롯 비트셋들을 워드 단위 AND 하고 비트 수를 세어 구한다.
+ *
+ * 변경은 복사본을 만들어 반환하므로(copy-on-write) 읽는 쪽은 잠금 없이 사용한다.
+ */
+final class StoreAvailability {
+
+  private static final StoreAvailability EMPTY =
+      new StoreAvailability(new long[0], Map.of(), new long[WeeklyAvailability.SLOTS][0]);
+
+  /**
+   * 비트 위치별 사용자 ID
+   */
+  private final long[] userIds;
+  private final Map<Long, Integer> positions;
+
+  /**
+   * [슬롯][워드] 슬롯별 근무 가능 직원 비트셋
+   */
+  private final long[][] slots;
+
+  private StoreAvailability(long[] userIds, Map<Long, Integer> positions, long[][] slots) {
+    this.userIds = userIds;
+    this.positions = positions;
+    this.slots = slots;
+  }
+
+  static StoreAvailability empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 직원의 근무 가능 시간을 반영한 새 스냅샷 반환 (처음 보는 직원이면 비트 위치를 새로 배정)
+   *
+   * @param userId 직원 ID
+   * @param availability 주간 근무 가능 시간
+   * @return 새 스냅샷
+   */
+  StoreAvailability with(long userId, WeeklyAvailability availability) {
+    Integer existing = positions.get(userId);
+    int position = existing != null ? existing : userIds.length;
+    int words = (Math.max(userIds.length, position + 1) + 63) >> 6;
+
+    long[] newUserIds = userIds;
+    Map<Long, Integer> newPositions = positions;
+    if (existing == null) {
+      newUserIds = Arrays.copyOf(userIds, position + 1);
+      newUserIds[position] = userId;
+      newPositions = new HashMap<>(positions);
+      newPositions.put(userId, position);
+    }
+
+    long[][] newSlots = new long[WeeklyAvailability.SLOTS][];
+    int word = position >> 6;
+    long bit = 1L << position;
+    for (int slot = 0; slot < WeeklyAvailability.SLOTS; slot++) {
+      long[] copy = Arrays.copyOf(slots[slot], words);
+      copy[word] = availability.isAvailable(slot) ? copy[word] | bit : copy[word] & ~bit;
+      newSlots[slot] = copy;
+    }
+    return new StoreAvailability(newUserIds, newPositions, newSlots);
+  }
+
+  /**
+   * 연속된 슬롯 전체에 근무 가능한 직원 ID 목록
+   * 주 경계(일요일 → 월요일)를 넘는 구간은 0번 슬롯으로 이어진다.
+   *
+   * @param fromSlot 시작 슬롯
+   * @param slotCount 슬롯 수
+   * @return 직원 ID 목록 (비트 위치 순)
+   */
+  List<Long> findAvailable(int fromSlot, int slotCount) {
+    long[] available = intersect(fromSlot, slotCount);
+    List<Long> result = new ArrayList<>(count(available));
+    for (int w = 0; w < available.length; w++) {
+      for (long bits = available[w]; bits != 0; bits &= bits - 1) {
+        result.add(userIds[(w << 6) + Long.numberOfTrailingZeros(bits)]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 연속된 슬롯 전체에 근무 가능한 직원 수
+   */
+  int countAvailable(int fromSlot, int slotCount) {
+    return count(intersect(fromSlot, slotCount));
+  }
+
+  int size() {
+    return userIds.length;
+  }
+
+  private long[] intersect(int fromSlot, int slotCount) {
+    long[] acc = slots[fromSlot].clone();
+    int count = Math.min(slotCount, WeeklyAvailability.SLOTS);
+    for (int i = 1; i < count; i++) {
+      long[] slot = slots[(fromSlot + i) % WeeklyAvailability.SLOTS];
+      long any = 0;
+      for (int w = 0; w < acc.length; w++) {
+        acc[w] &= slot[w];
+        any |= acc[w];
+      }
+      if (any == 0) {
+        break;
+      }
+    }
+    return acc;
+  }
+
+  private static int count(long[] bits) {
+    int count = 0;
+    for (long word : bits) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+}
@@ -0,0 +1,119 @@
+package com.schedulebob.schedule.availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 근무자의 주간 근무 가능 시간을 15분 단위 슬롯 비트맵(7 x 96 = 672비트)으로 표현하는 불변 값 객체.
+ * 슬롯 번호는 (요일 - 1) * 96 + 하루 중 분 / 15 이며, 월요일 00:00이 0번이다.
+ * DB에는 84바이트 바이너리로 저장한다 (toBytes/fromBytes, 리틀 엔디언 비트 순서).
+ */
+public final class WeeklyAvailability {
+
+  public static final int SLOT_MINUTES = 15;
+  public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+  public static final int SLOTS = 7 * SLOTS_PER_DAY;
+  public static final int BYTES = SLOTS / 8;
+
+  private static final int WORDS = (SLOTS + 63) / 64;
+  private static final WeeklyAvailability EMPTY = new WeeklyAvailability(new long[WORDS]);
+
+  private final long[] words;
+
+  private WeeklyAvailability(long[] words) {
+    this.words = words;
+  }
+
+  public static WeeklyAvailability empty() {
+    return EMPTY;
+  }
+
+  /**
+   * DB에 저장된 바이너리에서 복원
+   *
+   * @param bytes 84바이트 비트맵
+   * @return 주간 근무 가능 시간
+   */
+  public static WeeklyAvailability fromBytes(byte[] bytes) {
+    if (bytes.length != BYTES) {
+      throw new IllegalArgumentException("근무 가능 시간 비트맵은 " + BYTES + "바이트여야 합니다.");
+    }
+    long[] words = new long[WORDS];
+    for (int i = 0; i < BYTES; i++) {
+      words[i >> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+    }
+    return new WeeklyAvailability(words);
+  }
+
+  /**
+   * DB 저장용 바이너리로 변환
+   *
+   * @return 84바이트 비트맵
+   */
+  public byte[] toBytes() {
+    byte[] bytes = new byte[BYTES];
+    for (int i = 0; i < BYTES; i++) {
+      bytes[i] = (byte) (words[i >> 3] >>> ((i & 7) << 3));
+    }
+    return bytes;
+  }
+
+  /**
+   * 요일의 [from, to) 시간을 근무 가능으로 표시한 새 객체 반환
+   * to가 00:00이면 그날 자정(24:00)까지로 본다. 자정을 넘기는 시간은 요일별로 나누어 지정한다.
+   *
+   * @param day 요일
+   * @param from 시작 시각 (15분 단위로 내림)
+   * @param to 종료 시각 (15분 단위로 올림, 미포함)
+   * @return 근무 가능 시간이 추가된 객체
+   */
+  public WeeklyAvailability with(DayOfWeek day, LocalTime from, LocalTime to) {
+    int dayStart = (day.getValue() - 1) * SLOTS_PER_DAY;
+    int fromSlot = from.toSecondOfDay() / 60 / SLOT_MINUTES;
+    int toSlot = LocalTime.MIDNIGHT.equals(to)
+        ? SLOTS_PER_DAY
+        : (to.toSecondOfDay() / 60 + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    if (toSlot <= fromSlot) {
+      throw new IllegalArgumentException("종료 시각은 시작 시각보다 늦어야 합니다.");
+    }
+
+    long[] copy = Arrays.copyOf(words, WORDS);
+    for (int slot = dayStart + fromSlot; slot < dayStart + toSlot; slot++) {
+      copy[slot >> 6] |= 1L << slot;
+    }
+    return new WeeklyAvailability(copy);
+  }
+
+  /**
+   * 슬롯의 근무 가능 여부
+   *
+   * @param slot 슬롯 번호 (0 ~ 671)
+   * @return 근무 가능하면 true
+   */
+  public boolean isAvailable(int slot) {
+    return (words[slot >> 6] & (1L << slot)) != 0;
+  }
+
+  /**
+   * 일시가 속한 슬롯 번호
+   *
+   * @param dateTime 매장 현지 일시
+   * @return 슬롯 번호 (0 ~ 671)
+   */
+  public static int slotOf(LocalDateTime dateTime) {
+    return (dateTime.getDayOfWeek().getValue() - 1) * SLOTS_PER_DAY
+        + (dateTime.getHour() * 60 + dateTime.getMinute()) / SLOT_MINUTES;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof WeeklyAvailability other && Arrays.equals(words, other.words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(words);
+  }
+}
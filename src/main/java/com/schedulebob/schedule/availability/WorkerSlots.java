@@ -0,0 +1,15 @@
+package com.schedulebob.schedule.availability;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매장 인덱스 적재용 프로젝션 (직원 ID와 근무 가능 비트맵만 조회).
+ */
+@Getter
+@AllArgsConstructor
+public class WorkerSlots {
+
+  private final Long userId;
+  private final byte[] slots;
+}
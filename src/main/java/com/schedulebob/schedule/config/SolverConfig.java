@@ -0,0 +1,51 @@
+package com.schedulebob.schedule.config;
+
+import com.schedulebob.schedule.solver.AutoScheduler;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자동 배정 탐색 설정 클래스.
+ * 탐색은 CPU를 시간 예산만큼 계속 쓰므로 공용 풀(ForkJoinPool.commonPool) 대신 전용 풀에서 실행한다.
+ * 공용 풀은 캐시 비동기 로딩, 병렬 스트림, CompletableFuture 기본 실행기가 함께 쓴다.
+ */
+@Configuration
+public class SolverConfig {
+
+  /**
+   * 탐색 전용 스레드 수. 0이면 CPU 코어 수의 절반(최소 1)을 사용한다.
+   */
+  @Value("${schedule.solver.parallelism:0}")
+  private int parallelism;
+
+  /**
+   * 자동 배정 탐색 전용 fork/join 풀
+   *
+   * @return 크기가 고정된 ForkJoinPool
+   */
+  @Bean(destroyMethod = "shutdownNow")
+  public ForkJoinPool solverPool() {
+    int threads = parallelism > 0
+        ? parallelism
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    return new ForkJoinPool(threads, pool -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("solver-" + thread.getPoolIndex());
+      return thread;
+    }, null, false);
+  }
+
+  /**
+   * 자동 배정기 빈 등록
+   *
+   * @param solverPool 탐색 전용 풀
+   * @return AutoScheduler 인스턴스
+   */
+  @Bean
+  public AutoScheduler autoScheduler(ForkJoinPool solverPool) {
+    return new AutoScheduler(solverPool);
+  }
+}
@@ -0,0 +1,56 @@
+package com.schedulebob.schedule.conflict;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 근무 배정 충돌 정보.
+ */
+@Getter
+@AllArgsConstructor
+public class ShiftConflict {
+
+  /**
+   * 충돌 종류
+   */
+  public enum Type {
+    /**
+     * 같은 근무자의 근무 시간이 겹침 (중복 배정 포함)
+     */
+    OVERLAP,
+    /**
+     * 앞뒤 근무와의 간격이 최소 휴식 시간보다 짧음
+     */
+    INSUFFICIENT_REST
+  }
+
+  private final Type type;
+
+  /**
+   * 근무자 ID
+   */
+  private final Long userId;
+
+  /**
+   * 배정하려던 근무 시작/종료 일시
+   */
+  private final LocalDateTime startAt;
+  private final LocalDateTime endAt;
+
+  /**
+   * 충돌한 기존 근무의 시작/종료 일시
+   */
+  private final LocalDateTime conflictingStartAt;
+  private final LocalDateTime conflictingEndAt;
+
+  /**
+   * 오류 응답용 설명 문구
+   */
+  public String describe() {
+    String reason = type == Type.OVERLAP ? "근무 시간이 겹칩니다" : "근무 간 최소 휴식 시간이 부족합니다";
+    return String.format("근무자 %d의 %s~%s 근무: %s~%s 근무와 %s.",
+        userId, startAt, endAt, conflictingStartAt, conflictingEndAt, reason);
+  }
+}
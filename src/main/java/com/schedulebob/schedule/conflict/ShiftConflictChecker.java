@@ -0,0 +1,126 @@
+package com.schedulebob.schedule.conflict;
+
+import com.schedulebob.schedule.conflict.ShiftIntervalTree.Interval;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 근무자별 구간 트리로 근무 배정 충돌을 검사하는 인메모리 검사기.
+ * 검사 대상 기간의 기존 근무를 한 번에 채워 넣은 뒤, 배정마다 겹침과 최소 휴식 시간을 O(log n)에 확인한다.
+ * 통과한 배정은 바로 트리에 추가되므로 같은 요청 안의 배정끼리도 서로 검사된다.
+ *
+ * 스레드 안전하지 않으므로 요청 단위로 생성해 사용한다.
+ */
+public class ShiftConflictChecker {
+
+  private final Map<Long, ShiftIntervalTree> trees = new HashMap<>();
+  private final long minRestMinutes;
+  private long nextPendingId = -1;
+
+  /**
+   * ShiftConflictChecker 생성자.
+   *
+   * @param minRest 같은 근무자의 연속된 근무 사이 최소 휴식 시간
+   */
+  public ShiftConflictChecker(Duration minRest) {
+    this.minRestMinutes = minRest.toMinutes();
+  }
+
+  /**
+   * 이미 저장된 근무 추가 (검사 없이)
+   *
+   * @param shiftId 근무 ID
+   * @param userId 근무자 ID
+   * @param startAt 시작 일시
+   * @param endAt 종료 일시
+   */
+  public void add(long shiftId, Long userId, LocalDateTime startAt, LocalDateTime endAt) {
+    tree(userId).insert(shiftId, toMinutes(startAt), toMinutes(endAt));
+  }
+
+  /**
+   * 근무 제거 (근무 변경/삭제 시 자기 자신과 충돌하지 않도록 먼저 제거)
+   *
+   * @param shiftId 근무 ID
+   * @param userId 근무자 ID
+   * @param startAt 시작 일시
+   * @return 제거 여부
+   */
+  public boolean remove(long shiftId, Long userId, LocalDateTime startAt) {
+    ShiftIntervalTree tree = trees.get(userId);
+    return tree != null && tree.remove(shiftId, toMinutes(startAt));
+  }
+
+  /**
+   * 근무 배정 가능 여부를 검사하고, 충돌이 없으면 트리에 추가
+   *
+   * @param userId 근무자 ID
+   * @param startAt 시작 일시
+   * @param endAt 종료 일시
+   * @return 충돌 정보, 배정 가능하면 빈 값
+   */
+  public Optional<ShiftConflict> tryAssign(Long userId, LocalDateTime startAt, LocalDateTime endAt) {
+    Optional<ShiftConflict> conflict = check(userId, startAt, endAt);
+    if (conflict.isEmpty()) {
+      // 아직 저장되지 않은 배정은 음수 ID로 구분한다.
+      tree(userId).insert(nextPendingId--, toMinutes(startAt), toMinutes(endAt));
+    }
+    return conflict;
+  }
+
+  /**
+   * 근무 배정 가능 여부만 검사 (트리는 바꾸지 않음)
+   * 겹침을 먼저 확인한 뒤, 구간을 최소 휴식 시간만큼 양쪽으로 넓혀 휴식 부족을 확인한다.
+   *
+   * @param userId 근무자 ID
+   * @param startAt 시작 일시
+   * @param endAt 종료 일시
+   * @return 충돌 정보, 배정 가능하면 빈 값
+   */
+  public Optional<ShiftConflict> check(Long userId, LocalDateTime startAt, LocalDateTime endAt) {
+    ShiftIntervalTree tree = trees.get(userId);
+    if (tree == null) {
+      return Optional.empty();
+    }
+    long start = toMinutes(startAt);
+    long end = toMinutes(endAt);
+
+    Interval overlap = tree.findOverlap(start, end);
+    if (overlap != null) {
+      return Optional.of(conflict(ShiftConflict.Type.OVERLAP, userId, startAt, endAt, overlap));
+    }
+    if (minRestMinutes > 0) {
+      Interval tooClose = tree.findOverlap(start - minRestMinutes, end + minRestMinutes);
+      if (tooClose != null) {
+        return Optional.of(conflict(ShiftConflict.Type.INSUFFICIENT_REST, userId, startAt, endAt, tooClose));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private ShiftIntervalTree tree(Long userId) {
+    return trees.computeIfAbsent(userId, id -> new ShiftIntervalTree());
+  }
+
+  private static ShiftConflict conflict(ShiftConflict.Type type, Long userId,
+      LocalDateTime startAt, LocalDateTime endAt, Interval existing) {
+    return new ShiftConflict(type, userId, startAt, endAt,
+        toDateTime(existing.start()), toDateTime(existing.end()));
+  }
+
+  /**
+   * 매장 현지 시각을 분 단위 정수로 변환 (시간대 변환 없이 그대로 사용)
+   */
+  public static long toMinutes(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+  }
+
+  public static LocalDateTime toDateTime(long minutes) {
+    return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,199 @@
+package com.schedulebob.schedule.conflict;
+
+/**
+ * 한 근무자의 근무 구간을 담는 구간 트리.
+ * 시작 시각(동일하면 근무 ID) 순으로 정렬된 treap이며, 각 노드는 하위 트리의 최대 종료 시각을 함께 유지한다.
+ * 삽입, 삭제, 겹침 조회 모두 기대 O(log n)이다.
+ *
+ * 시각은 분 단위 정수, 구간은 [start, end) 반개구간이다.
+ * 노드 우선순위는 근무 ID의 해시로 정해 같은 입력이면 항상 같은 모양의 트리가 된다.
+ * 스레드 안전하지 않으므로 요청 단위로 생성해 사용한다.
+ */
+public class ShiftIntervalTree {
+
+  private Node root;
+  private int size;
+
+  /**
+   * 구간 추가
+   *
+   * @param shiftId 근무 ID (같은 시작 시각의 구간을 구분)
+   * @param start 시작 시각(분)
+   * @param end 종료 시각(분, 미포함)
+   */
+  public void insert(long shiftId, long start, long end) {
+    if (end <= start) {
+      throw new IllegalArgumentException("종료 시각은 시작 시각보다 늦어야 합니다.");
+    }
+    root = insert(root, new Node(shiftId, start, end));
+    size++;
+  }
+
+  /**
+   * 구간 삭제
+   *
+   * @param shiftId 근무 ID
+   * @param start 시작 시각(분)
+   * @return 삭제 여부
+   */
+  public boolean remove(long shiftId, long start) {
+    int before = size;
+    root = remove(root, shiftId, start);
+    return size < before;
+  }
+
+  /**
+   * [start, end)와 겹치는 구간 하나를 조회
+   * 왼쪽 하위 트리의 최대 종료 시각이 start 이하이면 왼쪽에는 겹치는 구간이 없고,
+   * 초과이면 왼쪽에 없을 때 오른쪽에도 없으므로 한 경로만 따라 내려간다.
+   *
+   * @param start 시작 시각(분)
+   * @param end 종료 시각(분, 미포함)
+   * @return 겹치는 구간, 없으면 null
+   */
+  public Interval findOverlap(long start, long end) {
+    Node node = root;
+    while (node != null) {
+      if (node.start < end && node.end > start) {
+        return node;
+      }
+      node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+    }
+    return null;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private Node insert(Node node, Node added) {
+    if (node == null) {
+      return added;
+    }
+    if (compare(added.start, added.shiftId, node) < 0) {
+      node.left = insert(node.left, added);
+      if (node.left.priority > node.priority) {
+        node = rotateRight(node);
+      }
+    } else {
+      node.right = insert(node.right, added);
+      if (node.right.priority > node.priority) {
+        node = rotateLeft(node);
+      }
+    }
+    node.update();
+    return node;
+  }
+
+  private Node remove(Node node, long shiftId, long start) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(start, shiftId, node);
+    if (cmp < 0) {
+      node.left = remove(node.left, shiftId, start);
+    } else if (cmp > 0) {
+      node.right = remove(node.right, shiftId, start);
+    } else {
+      size--;
+      return merge(node.left, node.right);
+    }
+    node.update();
+    return node;
+  }
+
+  private static Node merge(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      left.update();
+      return left;
+    }
+    right.left = merge(left, right.left);
+    right.update();
+    return right;
+  }
+
+  private static Node rotateRight(Node node) {
+    Node pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    node.update();
+    return pivot;
+  }
+
+  private static Node rotateLeft(Node node) {
+    Node pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    node.update();
+    return pivot;
+  }
+
+  private static int compare(long start, long shiftId, Node node) {
+    int cmp = Long.compare(start, node.start);
+    return cmp != 0 ? cmp : Long.compare(shiftId, node.shiftId);
+  }
+
+  /**
+   * 트리에 저장된 근무 구간
+   */
+  public interface Interval {
+
+    long shiftId();
+
+    long start();
+
+    long end();
+  }
+
+  private static final class Node implements Interval {
+
+    private final long shiftId;
+    private final long start;
+    private final long end;
+    private final int priority;
+    private long maxEnd;
+    private Node left;
+    private Node right;
+
+    private Node(long shiftId, long start, long end) {
+      this.shiftId = shiftId;
+      this.start = start;
+      this.end = end;
+      this.priority = Long.hashCode(shiftId * 0x9E3779B97F4A7C15L);
+      this.maxEnd = end;
+    }
+
+    private void update() {
+      long max = end;
+      if (left != null) {
+        max = Math.max(max, left.maxEnd);
+      }
+      if (right != null) {
+        max = Math.max(max, right.maxEnd);
+      }
+      maxEnd = max;
+    }
+
+    @Override
+    public long shiftId() {
+      return shiftId;
+    }
+
+    @Override
+    public long start() {
+      return start;
+    }
+
+    @Override
+    public long end() {
+      return end;
+    }
+  }
+}
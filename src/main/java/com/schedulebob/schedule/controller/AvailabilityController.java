@@ -0,0 +1,69 @@
+package com.schedulebob.schedule.controller;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.schedule.dto.AvailabilityRequest;
+import com.schedulebob.schedule.dto.AvailabilityResponse;
+import com.schedulebob.schedule.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 근무 가능 시간 REST API 컨트롤러.
+ * 직원은 본인의 근무 가능 시간을 관리하고, 관리자(admin)는 근무 시간대에 가능한 매장 직원을 조회한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+  private final AvailabilityService availabilityService;
+
+  /**
+   * 본인의 주간 근무 가능 시간 조회
+   *
+   * @param authentication JwtAuthenticationFilter가 설정한 인증 정보
+   * @return 요일별 근무 가능 시간대
+   */
+  @GetMapping("/api/availability/me")
+  public ResponseEntity<AvailabilityResponse> getMine(Authentication authentication) {
+    return ResponseEntity.ok(availabilityService.get(userId(authentication)));
+  }
+
+  /**
+   * 본인의 주간 근무 가능 시간 설정 (기존 설정 대체)
+   *
+   * @param request 요일별 근무 가능 시간대
+   * @param authentication JwtAuthenticationFilter가 설정한 인증 정보
+   * @return 저장된 근무 가능 시간
+   */
+  @PutMapping("/api/availability/me")
+  public ResponseEntity<AvailabilityResponse> updateMine(@Validated @RequestBody AvailabilityRequest request,
+      Authentication authentication) {
+    return ResponseEntity.ok(availabilityService.update(userId(authentication), request));
+  }
+
+  /**
+   * 근무 시간대 전체에 근무 가능한 매장 직원 조회
+   *
+   * @param storeId 매장 ID
+   * @param startAt 근무 시작 일시 (ISO-8601)
+   * @param endAt 근무 종료 일시 (ISO-8601)
+   * @return 직원 ID 목록
+   */
+  @GetMapping("/api/stores/{storeId}/available-workers")
+  public ResponseEntity<List<Long>> findAvailableWorkers(@PathVariable Long storeId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startAt,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endAt) {
+    return ResponseEntity.ok(availabilityService.findAvailableWorkers(storeId, startAt, endAt));
+  }
+
+  private static Long userId(Authentication authentication) {
+    return ((JwtPrincipal) authentication.getDetails()).getUserId();
+  }
+}
@@ -0,0 +1,98 @@
+package com.schedulebob.schedule.controller;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.schedule.dto.AutoScheduleRequest;
+import com.schedulebob.schedule.dto.AutoScheduleResponse;
+import com.schedulebob.schedule.dto.ShiftRequest;
+import com.schedulebob.schedule.dto.ShiftResponse;
+import com.schedulebob.schedule.service.AutoScheduleService;
+import com.schedulebob.schedule.service.ShiftService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 근무 배정 REST API 컨트롤러.
+ * 조회는 본인, 같은 매장 직원, 관리자만 가능하고 (ShiftService), 등록/삭제는 관리자(admin)만 가능하다 (SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/shifts")
+@RequiredArgsConstructor
+public class ShiftController {
+
+  private final ShiftService shiftService;
+  private final AutoScheduleService autoScheduleService;
+
+  /**
+   * 근무 한 건 배정
+   *
+   * @param request 근무 배정 요청
+   * @return 201 Created, 저장된 근무
+   */
+  @PostMapping
+  public ResponseEntity<ShiftResponse> create(@Validated @RequestBody ShiftRequest request) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(shiftService.create(request));
+  }
+
+  /**
+   * 근무 일괄 배정. 충돌이 하나라도 있으면 409로 응답하고 아무것도 저장하지 않는다.
+   *
+   * @param requests 근무 배정 요청 목록
+   * @return 201 Created, 저장된 근무 목록
+   */
+  @PostMapping("/bulk")
+  public ResponseEntity<List<ShiftResponse>> createAll(
+      @RequestBody List<@Valid ShiftRequest> requests) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(shiftService.createAll(requests));
+  }
+
+  /**
+   * 매장의 한 주 빈 근무 자동 배정. apply가 true면 배정된 근무를 저장한다.
+   *
+   * @param storeId 매장 ID
+   * @param request 빈 근무 목록과 탐색 옵션 (seed, 시간 예산)
+   * @return 배정 결과
+   */
+  @PostMapping("/auto-schedule")
+  public ResponseEntity<AutoScheduleResponse> autoSchedule(@RequestParam Long storeId,
+      @Validated @RequestBody AutoScheduleRequest request) {
+    return ResponseEntity.ok(autoScheduleService.schedule(storeId, request));
+  }
+
+  /**
+   * 근무자의 기간 내 근무 조회
+   *
+   * @param userId 근무자 ID
+   * @param from 조회 시작 일시 (ISO-8601)
+   * @param to 조회 종료 일시 (ISO-8601)
+   * @param authentication JwtAuthenticationFilter가 설정한 인증 정보
+   * @return 근무 목록
+   */
+  @GetMapping
+  public ResponseEntity<List<ShiftResponse>> findShifts(@RequestParam Long userId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      Authentication authentication) {
+    return ResponseEntity.ok(shiftService.findShifts((JwtPrincipal) authentication.getDetails(), userId, from, to));
+  }
+
+  /**
+   * 근무 삭제
+   *
+   * @param shiftId 근무 ID
+   * @return 204 No Content
+   */
+  @DeleteMapping("/{shiftId}")
+  public ResponseEntity<Void> delete(@PathVariable Long shiftId) {
+    shiftService.delete(shiftId);
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -0,0 +1,65 @@
+package com.schedulebob.schedule.controller;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.schedule.service.StoreScheduleService;
+import com.schedulebob.schedule.view.StoreWeekDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 매장 근무표 조회 REST API 컨트롤러.
+ */
+@RestController
+@RequiredArgsConstructor
+public class StoreScheduleController {
+
+  private final StoreScheduleService storeScheduleService;
+
+  /**
+   * 매장 주간 근무표 조회
+   * 응답에 강한 ETag를 붙이며, If-None-Match가 같으면 Spring MVC가 본문 없이 304로 응답한다.
+   * 클라이언트는 매번 재검증(no-cache)하므로 근무표가 바뀌면 바로 새 본문을 받는다.
+   *
+   * @param storeId 매장 ID
+   * @param week ISO 주 (예: 2026-W10)
+   * @param authentication JwtAuthenticationFilter가 설정한 인증 정보
+   * @return 주간 근무표 JSON
+   */
+  @GetMapping("/api/stores/{storeId}/weeks/{week}")
+  public ResponseEntity<byte[]> getWeek(@PathVariable Long storeId, @PathVariable String week,
+      Authentication authentication) {
+    StoreWeekDocument document = storeScheduleService.getWeek(
+        (JwtPrincipal) authentication.getDetails(), storeId, week);
+    return ResponseEntity.ok()
+        .eTag(document.getEtag())
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(document.getBody());
+  }
+
+  /**
+   * 매장 근무 변경 구독 (Server-Sent Events)
+   * 근무가 등록/삭제될 때마다 shift-changed 이벤트를 받는다.
+   * 재연결 시 EventSource가 보내는 Last-Event-ID 이후의 이벤트를 이어 받으며,
+   * id 번호가 건너뛰거나 resync 이벤트를 받으면 놓친 변경이 있으니 주간 근무표를 다시 조회한다.
+   *
+   * @param storeId 매장 ID
+   * @param lastEventId 마지막으로 받은 이벤트 ID (재연결 시)
+   * @param authentication JwtAuthenticationFilter가 설정한 인증 정보
+   * @return 근무 변경 이벤트 스트림
+   */
+  @GetMapping(value = "/api/stores/{storeId}/shift-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribe(@PathVariable Long storeId,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+      Authentication authentication) {
+    return storeScheduleService.subscribe((JwtPrincipal) authentication.getDetails(), storeId, lastEventId);
+  }
+}
@@ -0,0 +1,39 @@
+package com.schedulebob.schedule.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 자동 배정 요청 DTO.
+ * 빈 근무는 모두 같은 주(월~일) 안에 있어야 한다.
+ */
+@Getter
+@Setter
+public class AutoScheduleRequest {
+
+  @NotEmpty(message = "배정할 근무 목록은 필수 항목입니다.")
+  private List<@Valid OpenShiftRequest> shifts;
+
+  /**
+   * 난수 seed (선택). 같은 입력과 seed면 같은 배정을 반환한다.
+   */
+  private Long seed;
+
+  /**
+   * 탐색 시간 예산(ms, 선택). 비우면 schedule.solver.time-budget-ms를 사용한다.
+   */
+  @Min(value = 1, message = "탐색 시간은 1ms 이상이어야 합니다.")
+  @Max(value = 30000, message = "탐색 시간은 30초 이하여야 합니다.")
+  private Long timeBudgetMs;
+
+  /**
+   * true면 배정 결과를 근무로 저장한다.
+   */
+  private boolean apply;
+}
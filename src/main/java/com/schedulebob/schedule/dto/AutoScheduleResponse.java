@@ -0,0 +1,34 @@
+package com.schedulebob.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 자동 배정 응답 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class AutoScheduleResponse {
+
+  /**
+   * 요청 순서대로의 배정 결과 (배정하지 못한 근무는 userId가 null)
+   */
+  private final List<ShiftRequest> assignments;
+
+  /**
+   * 배정하지 못한 근무 수
+   */
+  private final int unassignedCount;
+
+  /**
+   * 탐색에서 시도한 이동 수
+   */
+  private final long iterations;
+
+  /**
+   * 배정 결과를 근무로 저장했는지 여부
+   */
+  private final boolean applied;
+}
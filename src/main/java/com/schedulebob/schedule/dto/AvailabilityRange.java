@@ -0,0 +1,30 @@
+package com.schedulebob.schedule.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 요일별 근무 가능 시간대 DTO.
+ * to가 00:00이면 그날 자정(24:00)까지를 의미한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityRange {
+
+  @NotNull(message = "요일은 필수 항목입니다.")
+  private DayOfWeek day;
+
+  @NotNull(message = "시작 시각은 필수 항목입니다.")
+  private LocalTime from;
+
+  @NotNull(message = "종료 시각은 필수 항목입니다.")
+  private LocalTime to;
+}
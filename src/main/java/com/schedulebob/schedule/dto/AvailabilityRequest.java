@@ -0,0 +1,29 @@
+package com.schedulebob.schedule.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 주간 근무 가능 시간 설정 요청 DTO.
+ * 기존 설정을 통째로 대체한다.
+ */
+@Getter
+@Setter
+public class AvailabilityRequest {
+
+  @NotNull(message = "근무 가능 시간 목록은 필수 항목입니다.")
+  private List<@Valid AvailabilityRange> ranges;
+
+  /**
+   * 주간 최대 근무 시간 (선택, 비우면 매장 기본값). 기본값(schedule.default-max-weekly-hours)보다 낮게만 설정할 수 있다.
+   */
+  @Min(value = 1, message = "주간 최대 근무 시간은 1시간 이상이어야 합니다.")
+  @Max(value = 168, message = "주간 최대 근무 시간은 168시간 이하여야 합니다.")
+  private Integer maxWeeklyHours;
+}
@@ -0,0 +1,23 @@
+package com.schedulebob.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 주간 근무 가능 시간 응답 DTO.
+ * 연속된 슬롯을 요일별 시간대로 묶어 반환한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AvailabilityResponse {
+
+  private final Long userId;
+  private final List<AvailabilityRange> ranges;
+
+  /**
+   * 주간 최대 근무 시간 (설정하지 않았으면 null)
+   */
+  private final Integer maxWeeklyHours;
+}
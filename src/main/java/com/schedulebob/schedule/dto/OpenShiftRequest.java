@@ -0,0 +1,25 @@
+package com.schedulebob.schedule.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자동 배정할 빈 근무 DTO.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenShiftRequest {
+
+  @NotNull(message = "근무 시작 일시는 필수 항목입니다.")
+  private LocalDateTime startAt;
+
+  @NotNull(message = "근무 종료 일시는 필수 항목입니다.")
+  private LocalDateTime endAt;
+}
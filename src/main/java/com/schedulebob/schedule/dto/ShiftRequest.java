@@ -0,0 +1,28 @@
+package com.schedulebob.schedule.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 근무 배정 요청 DTO.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShiftRequest {
+
+  @NotNull(message = "근무자 ID는 필수 항목입니다.")
+  private Long userId;
+
+  @NotNull(message = "근무 시작 일시는 필수 항목입니다.")
+  private LocalDateTime startAt;
+
+  @NotNull(message = "근무 종료 일시는 필수 항목입니다.")
+  private LocalDateTime endAt;
+}
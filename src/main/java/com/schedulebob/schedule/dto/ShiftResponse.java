@@ -0,0 +1,24 @@
+package com.schedulebob.schedule.dto;
+
+import com.schedulebob.schedule.entity.Shift;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 근무 조회/등록 응답 DTO.
+ */
+@Getter
+@AllArgsConstructor
+public class ShiftResponse {
+
+  private final Long id;
+  private final Long userId;
+  private final LocalDateTime startAt;
+  private final LocalDateTime endAt;
+
+  public static ShiftResponse from(Shift shift) {
+    return new ShiftResponse(shift.getId(), shift.getUserId(), shift.getStartAt(), shift.getEndAt());
+  }
+}
@@ -0,0 +1,61 @@
+package com.schedulebob.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 근무자에게 배정된 근무(시프트) 엔티티.
+ * 근무 시간은 [startAt, endAt) 반개구간이며, 끝나는 시각에 바로 시작하는 근무와는 겹치지 않는다.
+ * 근무자별 기간 조회를 위해 (user_id, start_at) 인덱스를 둔다.
+ */
+@Entity
+@Table(name = "shifts",
+    indexes = @Index(name = "idx_shifts_user_start", columnList = "user_id, start_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class Shift {
+
+  /**
+   * 근무 고유 ID (PK)
+   * 한 달치 일괄 등록을 INSERT 배치로 보내기 위해 ID 할당 테이블에서 50개씩 받아 사용한다.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "shift_id")
+  @TableGenerator(name = "shift_id", table = "id_sequences", pkColumnName = "sequence_name",
+      valueColumnName = "next_val", pkColumnValue = "shifts", allocationSize = 50)
+  private Long id;
+
+  /**
+   * 근무자 ID (users.id 참조)
+   */
+  @Column(nullable = false)
+  private Long userId;
+
+  /**
+   * 근무 시작 일시
+   */
+  @Column(nullable = false)
+  private LocalDateTime startAt;
+
+  /**
+   * 근무 종료 일시 (이 시각은 근무에 포함되지 않음)
+   */
+  @Column(nullable = false)
+  private LocalDateTime endAt;
+
+  /**
+   * 등록 일시
+   */
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  public Shift(Long userId, LocalDateTime startAt, LocalDateTime endAt) {
+    this.userId = userId;
+    this.startAt = startAt;
+    this.endAt = endAt;
+  }
+}
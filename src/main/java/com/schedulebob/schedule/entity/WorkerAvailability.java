@@ -0,0 +1,52 @@
+package com.schedulebob.schedule.entity;
+
+import com.schedulebob.schedule.availability.WeeklyAvailability;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직원의 주간 근무 가능 시간 엔티티.
+ * 15분 단위 672개 슬롯을 84바이트 비트맵 한 컬럼에 저장하며, 직원당 한 행이다.
+ */
+@Entity
+@Table(name = "worker_availability")
+@Getter
+@Setter
+@NoArgsConstructor
+public class WorkerAvailability {
+
+  /**
+   * 직원 ID (PK, users.id 참조)
+   */
+  @Id
+  private Long userId;
+
+  /**
+   * 주간 근무 가능 슬롯 비트맵 (WeeklyAvailability.toBytes)
+   */
+  @Column(nullable = false, length = WeeklyAvailability.BYTES,
+      columnDefinition = "binary(" + WeeklyAvailability.BYTES + ")")
+  private byte[] slots;
+
+  /**
+   * 주간 최대 근무 시간(분). null이면 기본값(schedule.default-max-weekly-hours)을 따른다.
+   */
+  private Integer maxWeeklyMinutes;
+
+  /**
+   * 마지막 수정 일시
+   */
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  public WorkerAvailability(Long userId, WeeklyAvailability availability, Integer maxWeeklyMinutes) {
+    this.userId = userId;
+    this.slots = availability.toBytes();
+    this.maxWeeklyMinutes = maxWeeklyMinutes;
+    this.updatedAt = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,31 @@
+package com.schedulebob.schedule.event;
+
+import com.schedulebob.schedule.dto.ShiftResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 근무 등록/삭제 이벤트.
+ * ShiftService가 트랜잭션 안에서 발행하며, 구독자는 @TransactionalEventListener로 커밋 후에 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ShiftChangedEvent {
+
+  /**
+   * 변경 종류
+   */
+  public enum Type {
+    CREATED,
+    DELETED
+  }
+
+  private final Type type;
+
+  /**
+   * 변경된 근무 목록 (일괄 등록이면 여러 건)
+   */
+  private final List<ShiftResponse> shifts;
+}
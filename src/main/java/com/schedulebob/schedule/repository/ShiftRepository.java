@@ -0,0 +1,51 @@
+package com.schedulebob.schedule.repository;
+
+import com.schedulebob.schedule.entity.Shift;
+import com.schedulebob.schedule.view.WeekShift;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Shift 엔티티 관리를 위한 JPA 리포지토리.
+ */
+public interface ShiftRepository extends JpaRepository<Shift, Long> {
+
+  /**
+   * 지정한 근무자들의 근무 중 [from, to) 구간과 겹치는 근무를 한 번에 조회
+   * 충돌 검사 대상 기간의 근무를 한 쿼리로 가져와 메모리에서 검사하기 위해 사용한다.
+   *
+   * @param userIds 근무자 ID 목록
+   * @param from 구간 시작 일시
+   * @param to 구간 종료 일시
+   * @return 구간과 겹치는 근무 목록 (근무자, 시작 일시 순)
+   */
+  @Query("""
+      select s from Shift s
+      where s.userId in :userIds and s.startAt < :to and s.endAt > :from
+      order by s.userId, s.startAt
+      """)
+  List<Shift> findOverlapping(@Param("userIds") Collection<Long> userIds,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  /**
+   * 매장 소속 근무자의 [from, to) 구간 근무를 근무자 이름과 함께 조회 (주간 근무표 적재용)
+   *
+   * @param storeId 매장 ID
+   * @param from 구간 시작 일시
+   * @param to 구간 종료 일시
+   * @return 구간과 겹치는 근무 목록 (시작 일시, ID 순)
+   */
+  @Query("""
+      select new com.schedulebob.schedule.view.WeekShift(s.id, s.userId, u.name, s.startAt, s.endAt)
+      from Shift s join User u on u.id = s.userId
+      where u.storeId = :storeId and s.startAt < :to and s.endAt > :from
+      order by s.startAt, s.id
+      """)
+  List<WeekShift> findStoreWeek(@Param("storeId") Long storeId,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,29 @@
+package com.schedulebob.schedule.repository;
+
+import com.schedulebob.schedule.availability.WorkerSlots;
+import com.schedulebob.schedule.entity.WorkerAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * WorkerAvailability 엔티티 관리를 위한 JPA 리포지토리.
+ */
+public interface WorkerAvailabilityRepository extends JpaRepository<WorkerAvailability, Long> {
+
+  /**
+   * 매장 소속 직원들의 근무 가능 비트맵을 한 번에 조회 (매장 인덱스 적재용)
+   * users.store_id 인덱스와 worker_availability 기본 키를 사용하는 단일 쿼리다.
+   *
+   * @param storeId 매장 ID
+   * @return 직원 ID와 비트맵 목록
+   */
+  @Query("""
+      select new com.schedulebob.schedule.availability.WorkerSlots(a.userId, a.slots)
+      from WorkerAvailability a join User u on u.id = a.userId
+      where u.storeId = :storeId
+      """)
+  List<WorkerSlots> findStoreSlots(@Param("storeId") Long storeId);
+}
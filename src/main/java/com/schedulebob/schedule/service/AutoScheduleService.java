@@ -0,0 +1,184 @@
+package com.schedulebob.schedule.service;
+
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.schedule.availability.AvailabilityIndex;
+import com.schedulebob.schedule.conflict.ShiftConflictChecker;
+import com.schedulebob.schedule.dto.AutoScheduleRequest;
+import com.schedulebob.schedule.dto.AutoScheduleResponse;
+import com.schedulebob.schedule.dto.OpenShiftRequest;
+import com.schedulebob.schedule.dto.ShiftRequest;
+import com.schedulebob.schedule.entity.Shift;
+import com.schedulebob.schedule.entity.WorkerAvailability;
+import com.schedulebob.schedule.repository.ShiftRepository;
+import com.schedulebob.schedule.repository.WorkerAvailabilityRepository;
+import com.schedulebob.schedule.solver.AutoScheduler;
+import com.schedulebob.schedule.solver.SchedulingProblem;
+import com.schedulebob.schedule.solver.SolverOptions;
+import com.schedulebob.schedule.solver.SolverResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 한 주의 빈 근무를 매장 직원에게 자동 배정하는 서비스.
+ * 근무 가능 시간(AvailabilityIndex), 기존 근무와의 겹침/최소 휴식 시간, 직원별 주간 최대 근무 시간을 지키는
+ * 배정 문제를 만들어 AutoScheduler로 푼다.
+ *
+ * 탐색 중에는 트랜잭션이나 커넥션을 잡지 않으며, 저장(apply)은 ShiftService.createAll로 충돌을 다시 검사한 뒤 한다.
+ * 탐색은 전용 풀(SolverConfig)에서 실행되고, 동시에 진행할 수 있는 탐색 수를 넘는 요청은 기다리지 않고 503으로 거절한다.
+ */
+@Service
+public class AutoScheduleService {
+
+  private final AvailabilityIndex availabilityIndex;
+  private final ShiftRepository shiftRepository;
+  private final WorkerAvailabilityRepository workerAvailabilityRepository;
+  private final ShiftService shiftService;
+  private final AutoScheduler autoScheduler;
+  private final Semaphore solves;
+
+  private final Duration minRest;
+  private final long defaultMaxWeeklyMinutes;
+  private final long defaultTimeBudgetMs;
+  private final int runs;
+  private final long maxIterations;
+
+  public AutoScheduleService(AvailabilityIndex availabilityIndex, ShiftRepository shiftRepository,
+      WorkerAvailabilityRepository workerAvailabilityRepository, ShiftService shiftService,
+      AutoScheduler autoScheduler,
+      @Value("${schedule.solver.max-concurrent:1}") int maxConcurrent,
+      @Value("${schedule.min-rest-minutes:660}") long minRestMinutes,
+      @Value("${schedule.default-max-weekly-hours:52}") long defaultMaxWeeklyHours,
+      @Value("${schedule.solver.time-budget-ms:2000}") long defaultTimeBudgetMs,
+      @Value("${schedule.solver.runs:4}") int runs,
+      @Value("${schedule.solver.max-iterations:2000000}") long maxIterations) {
+    this.availabilityIndex = availabilityIndex;
+    this.shiftRepository = shiftRepository;
+    this.workerAvailabilityRepository = workerAvailabilityRepository;
+    this.shiftService = shiftService;
+    this.autoScheduler = autoScheduler;
+    this.solves = new Semaphore(maxConcurrent);
+    this.minRest = Duration.ofMinutes(minRestMinutes);
+    this.defaultMaxWeeklyMinutes = defaultMaxWeeklyHours * 60;
+    this.defaultTimeBudgetMs = defaultTimeBudgetMs;
+    this.runs = runs;
+    this.maxIterations = maxIterations;
+  }
+
+  /**
+   * 빈 근무 자동 배정
+   *
+   * @param storeId 매장 ID
+   * @param request 빈 근무 목록과 탐색 옵션
+   * @return 배정 결과 (apply면 저장 여부 포함)
+   * @throws CustomException 근무 시간이 잘못되었거나 한 주를 벗어나면 400, 다른 탐색이 자리를 모두 쓰고 있으면 503
+   */
+  public AutoScheduleResponse schedule(Long storeId, AutoScheduleRequest request) {
+    List<OpenShiftRequest> shifts = request.getShifts();
+    LocalDateTime weekStart = shifts.get(0).getStartAt().toLocalDate().with(DayOfWeek.MONDAY).atStartOfDay();
+    LocalDateTime weekEnd = weekStart.plusWeeks(1);
+    for (OpenShiftRequest shift : shifts) {
+      if (!shift.getEndAt().isAfter(shift.getStartAt())) {
+        throw new CustomException("근무 종료 일시는 시작 일시보다 늦어야 합니다.");
+      }
+      if (shift.getStartAt().isBefore(weekStart) || shift.getEndAt().isAfter(weekEnd)) {
+        throw new CustomException("자동 배정은 한 주(월~일) 단위로 요청해야 합니다.");
+      }
+    }
+
+    // 근무별 근무 가능 직원 (정렬된 ID 순으로 번호를 매겨 같은 입력이면 같은 문제가 되게 한다)
+    List<List<Long>> available = shifts.stream()
+        .map(shift -> availabilityIndex.findAvailable(storeId, shift.getStartAt(), shift.getEndAt()))
+        .toList();
+    TreeSet<Long> workerIds = new TreeSet<>();
+    available.forEach(workerIds::addAll);
+
+    ShiftConflictChecker checker = new ShiftConflictChecker(minRest);
+    Map<Long, Long> weeklyMinutes = new HashMap<>();
+    Map<Long, Long> maxMinutes = new HashMap<>();
+    if (!workerIds.isEmpty()) {
+      for (Shift existing : shiftRepository.findOverlapping(workerIds, weekStart.minus(minRest),
+          weekEnd.plus(minRest))) {
+        checker.add(existing.getId(), existing.getUserId(), existing.getStartAt(), existing.getEndAt());
+        weeklyMinutes.merge(existing.getUserId(), minutesWithin(existing, weekStart, weekEnd), Long::sum);
+      }
+      for (WorkerAvailability row : workerAvailabilityRepository.findAllById(workerIds)) {
+        // 직원이 정한 값은 기본값을 넘을 수 없다 (이전에 저장된 큰 값도 기본값으로 제한).
+        if (row.getMaxWeeklyMinutes() != null) {
+          maxMinutes.put(row.getUserId(), Math.min(row.getMaxWeeklyMinutes().longValue(), defaultMaxWeeklyMinutes));
+        }
+      }
+    }
+
+    SchedulingProblem.Builder builder = SchedulingProblem.builder(minRest.toMinutes());
+    Map<Long, Integer> workerIndex = new HashMap<>();
+    List<Long> workers = new ArrayList<>(workerIds);
+    for (Long userId : workers) {
+      long capacity = maxMinutes.getOrDefault(userId, defaultMaxWeeklyMinutes)
+          - weeklyMinutes.getOrDefault(userId, 0L);
+      workerIndex.put(userId, builder.addWorker(capacity));
+    }
+    for (int i = 0; i < shifts.size(); i++) {
+      OpenShiftRequest shift = shifts.get(i);
+      int[] candidates = available.get(i).stream()
+          .filter(userId -> checker.check(userId, shift.getStartAt(), shift.getEndAt()).isEmpty())
+          .mapToInt(workerIndex::get)
+          .toArray();
+      builder.addShift(ShiftConflictChecker.toMinutes(shift.getStartAt()),
+          ShiftConflictChecker.toMinutes(shift.getEndAt()), candidates);
+    }
+
+    long timeBudgetMs = request.getTimeBudgetMs() != null ? request.getTimeBudgetMs() : defaultTimeBudgetMs;
+    SolverResult result = solve(builder.build(), new SolverOptions(
+        request.getSeed() != null ? request.getSeed() : 0L,
+        Duration.ofMillis(timeBudgetMs), runs, maxIterations));
+
+    List<ShiftRequest> assignments = new ArrayList<>(shifts.size());
+    List<ShiftRequest> assigned = new ArrayList<>();
+    int[] assignees = result.getAssignees();
+    for (int i = 0; i < shifts.size(); i++) {
+      Long userId = assignees[i] < 0 ? null : workers.get(assignees[i]);
+      ShiftRequest assignment = new ShiftRequest(userId, shifts.get(i).getStartAt(), shifts.get(i).getEndAt());
+      assignments.add(assignment);
+      if (userId != null) {
+        assigned.add(assignment);
+      }
+    }
+
+    boolean applied = false;
+    if (request.isApply() && !assigned.isEmpty()) {
+      shiftService.createAll(assigned);
+      applied = true;
+    }
+    return new AutoScheduleResponse(assignments, shifts.size() - assigned.size(),
+        result.getIterations(), applied);
+  }
+
+  private SolverResult solve(SchedulingProblem problem, SolverOptions options) {
+    if (!solves.tryAcquire()) {
+      throw new CustomException("다른 자동 배정이 진행 중입니다. 잠시 후 다시 시도해주세요.",
+          HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    try {
+      return autoScheduler.solve(problem, options);
+    } finally {
+      solves.release();
+    }
+  }
+
+  private static long minutesWithin(Shift shift, LocalDateTime from, LocalDateTime to) {
+    LocalDateTime start = shift.getStartAt().isBefore(from) ? from : shift.getStartAt();
+    LocalDateTime end = shift.getEndAt().isAfter(to) ? to : shift.getEndAt();
+    return Math.max(0, Duration.between(start, end).toMinutes());
+  }
+}
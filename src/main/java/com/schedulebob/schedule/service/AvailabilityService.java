@@ -0,0 +1,158 @@
+package com.schedulebob.schedule.service;
+
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.auth.repository.UserSummary;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.schedule.availability.AvailabilityIndex;
+import com.schedulebob.schedule.availability.WeeklyAvailability;
+import com.schedulebob.schedule.dto.AvailabilityRange;
+import com.schedulebob.schedule.dto.AvailabilityRequest;
+import com.schedulebob.schedule.dto.AvailabilityResponse;
+import com.schedulebob.schedule.entity.WorkerAvailability;
+import com.schedulebob.schedule.repository.WorkerAvailabilityRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.transaction.Transactional;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직원 근무 가능 시간 비즈니스 로직 서비스.
+ * 변경 내용은 DB에 저장한 뒤 커밋이 끝나면 매장 인덱스(AvailabilityIndex)에 반영한다.
+ * 직원이 직접 정하는 주간 최대 근무 시간은 매장 기본값보다 낮게만 설정할 수 있다.
+ */
+@Service
+public class AvailabilityService {
+
+  private final WorkerAvailabilityRepository workerAvailabilityRepository;
+  private final UserRepository userRepository;
+  private final AvailabilityIndex availabilityIndex;
+  private final int defaultMaxWeeklyHours;
+
+  public AvailabilityService(WorkerAvailabilityRepository workerAvailabilityRepository,
+      UserRepository userRepository, AvailabilityIndex availabilityIndex,
+      @Value("${schedule.default-max-weekly-hours:52}") int defaultMaxWeeklyHours) {
+    this.workerAvailabilityRepository = workerAvailabilityRepository;
+    this.userRepository = userRepository;
+    this.availabilityIndex = availabilityIndex;
+    this.defaultMaxWeeklyHours = defaultMaxWeeklyHours;
+  }
+
+  /**
+   * 직원의 주간 근무 가능 시간 조회
+   *
+   * @param userId 직원 ID
+   * @return 요일별 근무 가능 시간대 (설정하지 않았으면 빈 목록)
+   */
+  public AvailabilityResponse get(Long userId) {
+    return workerAvailabilityRepository.findById(userId)
+        .map(row -> new AvailabilityResponse(userId,
+            toRanges(WeeklyAvailability.fromBytes(row.getSlots())), toHours(row.getMaxWeeklyMinutes())))
+        .orElse(new AvailabilityResponse(userId, List.of(), null));
+  }
+
+  /**
+   * 직원의 주간 근무 가능 시간 설정 (기존 설정 대체)
+   *
+   * @param userId 직원 ID
+   * @param request 요일별 근무 가능 시간대
+   * @return 저장된 근무 가능 시간
+   * @throws CustomException 사용자가 없으면 404, 시간대가 잘못되거나 최대 근무 시간이 기본값을 넘으면 400
+   */
+  @Transactional
+  public AvailabilityResponse update(Long userId, AvailabilityRequest request) {
+    if (request.getMaxWeeklyHours() != null && request.getMaxWeeklyHours() > defaultMaxWeeklyHours) {
+      throw new CustomException(
+          String.format("주간 최대 근무 시간은 기본값(%d시간) 이하로만 설정할 수 있습니다.", defaultMaxWeeklyHours));
+    }
+    UserSummary user = userRepository.findSummaryById(userId)
+        .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+
+    WeeklyAvailability availability = WeeklyAvailability.empty();
+    try {
+      for (AvailabilityRange range : request.getRanges()) {
+        availability = availability.with(range.getDay(), range.getFrom(), range.getTo());
+      }
+    } catch (IllegalArgumentException e) {
+      throw new CustomException(e.getMessage());
+    }
+
+    Integer maxWeeklyMinutes = request.getMaxWeeklyHours() != null ? request.getMaxWeeklyHours() * 60 : null;
+    workerAvailabilityRepository.save(new WorkerAvailability(userId, availability, maxWeeklyMinutes));
+
+    Long storeId = user.getStoreId();
+    if (storeId != null) {
+      WeeklyAvailability saved = availability;
+      afterCommit(() -> availabilityIndex.update(storeId, userId, saved));
+    }
+    return new AvailabilityResponse(userId, toRanges(availability), request.getMaxWeeklyHours());
+  }
+
+  /**
+   * 근무 시간 전체에 근무 가능한 매장 직원 ID 목록
+   *
+   * @param storeId 매장 ID
+   * @param startAt 근무 시작 일시
+   * @param endAt 근무 종료 일시
+   * @return 직원 ID 목록
+   */
+  public List<Long> findAvailableWorkers(Long storeId, LocalDateTime startAt, LocalDateTime endAt) {
+    if (!endAt.isAfter(startAt)) {
+      throw new CustomException("근무 종료 일시는 시작 일시보다 늦어야 합니다.");
+    }
+    return availabilityIndex.findAvailable(storeId, startAt, endAt);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * 연속된 슬롯을 요일별 시간대로 묶는다.
+   */
+  private static List<AvailabilityRange> toRanges(WeeklyAvailability availability) {
+    List<AvailabilityRange> ranges = new ArrayList<>();
+    for (DayOfWeek day : DayOfWeek.values()) {
+      int dayStart = (day.getValue() - 1) * WeeklyAvailability.SLOTS_PER_DAY;
+      int slot = 0;
+      while (slot < WeeklyAvailability.SLOTS_PER_DAY) {
+        if (!availability.isAvailable(dayStart + slot)) {
+          slot++;
+          continue;
+        }
+        int from = slot;
+        while (slot < WeeklyAvailability.SLOTS_PER_DAY && availability.isAvailable(dayStart + slot)) {
+          slot++;
+        }
+        ranges.add(new AvailabilityRange(day, timeOf(from), timeOf(slot)));
+      }
+    }
+    return ranges;
+  }
+
+  private static Integer toHours(Integer minutes) {
+    return minutes != null ? minutes / 60 : null;
+  }
+
+  private static LocalTime timeOf(int slotOfDay) {
+    return slotOfDay == WeeklyAvailability.SLOTS_PER_DAY
+        ? LocalTime.MIDNIGHT
+        : LocalTime.ofSecondOfDay(slotOfDay * WeeklyAvailability.SLOT_MINUTES * 60L);
+  }
+}
@@ -0,0 +1,178 @@
+package com.schedulebob.schedule.service;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.schedule.conflict.ShiftConflict;
+import com.schedulebob.schedule.conflict.ShiftConflictChecker;
+import com.schedulebob.schedule.dto.ShiftRequest;
+import com.schedulebob.schedule.dto.ShiftResponse;
+import com.schedulebob.schedule.entity.Shift;
+import com.schedulebob.schedule.event.ShiftChangedEvent;
+import com.schedulebob.schedule.repository.ShiftRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 근무 배정 비즈니스 로직 서비스.
+ * 배정 전 검사 기간(요청 구간 ± 최소 휴식 시간)의 기존 근무를 한 번의 쿼리로 읽어 ShiftConflictChecker에 채우고,
+ * 근무마다 쿼리를 보내는 대신 메모리에서 충돌을 검사한다.
+ * 동시에 같은 근무자의 근무를 배정하는 요청이 서로의 저장 전 상태를 보고 함께 통과하지 않도록,
+ * 검사 전에 요청 근무자의 users 행을 ID 오름차순으로 잠근다 (교착 방지).
+ * 저장/삭제한 근무는 ShiftChangedEvent로 알린다.
+ */
+@Service
+public class ShiftService {
+
+  /**
+   * 일괄 등록 실패 응답에 나열할 최대 충돌 수
+   */
+  private static final int MAX_REPORTED_CONFLICTS = 10;
+
+  private final ShiftRepository shiftRepository;
+  private final UserRepository userRepository;
+  private final StoreScheduleService storeScheduleService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Duration minRest;
+
+  /**
+   * ShiftService 생성자.
+   *
+   * @param shiftRepository 근무 리포지토리
+   * @param userRepository 근무자 잠금용 사용자 리포지토리
+   * @param storeScheduleService 근무 조회 권한 확인용
+   * @param eventPublisher 근무 변경 이벤트 발행기
+   * @param minRestMinutes 같은 근무자의 연속된 근무 사이 최소 휴식 시간(분)
+   */
+  public ShiftService(ShiftRepository shiftRepository, UserRepository userRepository,
+      StoreScheduleService storeScheduleService, ApplicationEventPublisher eventPublisher,
+      @Value("${schedule.min-rest-minutes:660}") long minRestMinutes) {
+    this.shiftRepository = shiftRepository;
+    this.userRepository = userRepository;
+    this.storeScheduleService = storeScheduleService;
+    this.eventPublisher = eventPublisher;
+    this.minRest = Duration.ofMinutes(minRestMinutes);
+  }
+
+  /**
+   * 근무 한 건 배정
+   *
+   * @param request 근무 배정 요청
+   * @return 저장된 근무
+   * @throws CustomException 시간이 잘못되면 400, 기존 근무와 충돌하면 409
+   */
+  @Transactional
+  public ShiftResponse create(ShiftRequest request) {
+    return createAll(List.of(request)).get(0);
+  }
+
+  /**
+   * 근무 일괄 배정 (한 달치 근무표 등록 등)
+   * 기존 근무와의 충돌뿐 아니라 요청 안의 근무끼리의 충돌도 검사하며, 하나라도 충돌하면 전부 저장하지 않는다.
+   *
+   * @param requests 근무 배정 요청 목록
+   * @return 저장된 근무 목록 (요청 순서)
+   * @throws CustomException 시간이 잘못되면 400, 충돌이 있으면 409 (충돌 내용 포함)
+   */
+  @Transactional
+  public List<ShiftResponse> createAll(List<ShiftRequest> requests) {
+    if (requests.isEmpty()) {
+      return List.of();
+    }
+    for (ShiftRequest request : requests) {
+      if (!request.getEndAt().isAfter(request.getStartAt())) {
+        throw new CustomException("근무 종료 일시는 시작 일시보다 늦어야 합니다.");
+      }
+    }
+
+    ShiftConflictChecker checker = loadChecker(requests);
+    List<ShiftConflict> conflicts = new ArrayList<>();
+    for (ShiftRequest request : requests) {
+      checker.tryAssign(request.getUserId(), request.getStartAt(), request.getEndAt())
+          .ifPresent(conflicts::add);
+    }
+    if (!conflicts.isEmpty()) {
+      throw new CustomException(describe(conflicts), HttpStatus.CONFLICT);
+    }
+
+    List<Shift> shifts = requests.stream()
+        .map(request -> new Shift(request.getUserId(), request.getStartAt(), request.getEndAt()))
+        .toList();
+    List<ShiftResponse> saved = shiftRepository.saveAll(shifts).stream().map(ShiftResponse::from).toList();
+    eventPublisher.publishEvent(new ShiftChangedEvent(ShiftChangedEvent.Type.CREATED, saved));
+    return saved;
+  }
+
+  /**
+   * 근무 삭제
+   *
+   * @param shiftId 근무 ID
+   * @throws CustomException 근무가 없으면 404
+   */
+  @Transactional
+  public void delete(Long shiftId) {
+    Shift shift = shiftRepository.findById(shiftId)
+        .orElseThrow(() -> new CustomException("근무를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+    shiftRepository.delete(shift);
+    eventPublisher.publishEvent(new ShiftChangedEvent(ShiftChangedEvent.Type.DELETED,
+        List.of(ShiftResponse.from(shift))));
+  }
+
+  /**
+   * 근무자의 기간 내 근무 조회 (본인, 관리자, 같은 매장 직원만)
+   *
+   * @param principal 요청자
+   * @param userId 근무자 ID
+   * @param from 조회 시작 일시
+   * @param to 조회 종료 일시
+   * @return 기간과 겹치는 근무 목록 (시작 일시 순)
+   * @throws CustomException 조회 권한이 없으면 403
+   */
+  public List<ShiftResponse> findShifts(JwtPrincipal principal, Long userId, LocalDateTime from,
+      LocalDateTime to) {
+    storeScheduleService.requireWorkerAccess(principal, userId);
+    return shiftRepository.findOverlapping(List.of(userId), from, to).stream()
+        .map(ShiftResponse::from)
+        .toList();
+  }
+
+  /**
+   * 요청 근무자들을 잠근 뒤, 검사 기간 내 기존 근무를 한 번에 읽어 검사기를 만든다.
+   */
+  private ShiftConflictChecker loadChecker(List<ShiftRequest> requests) {
+    Set<Long> userIds = requests.stream().map(ShiftRequest::getUserId).collect(Collectors.toSet());
+    userRepository.lockAllById(userIds);
+    LocalDateTime from = requests.stream().map(ShiftRequest::getStartAt)
+        .min(Comparator.naturalOrder()).orElseThrow().minus(minRest);
+    LocalDateTime to = requests.stream().map(ShiftRequest::getEndAt)
+        .max(Comparator.naturalOrder()).orElseThrow().plus(minRest);
+
+    ShiftConflictChecker checker = new ShiftConflictChecker(minRest);
+    for (Shift shift : shiftRepository.findOverlapping(userIds, from, to)) {
+      checker.add(shift.getId(), shift.getUserId(), shift.getStartAt(), shift.getEndAt());
+    }
+    return checker;
+  }
+
+  private static String describe(List<ShiftConflict> conflicts) {
+    String listed = conflicts.stream()
+        .limit(MAX_REPORTED_CONFLICTS)
+        .map(ShiftConflict::describe)
+        .collect(Collectors.joining(" "));
+    if (conflicts.size() > MAX_REPORTED_CONFLICTS) {
+      return String.format("충돌 %d건 (처음 %d건): %s", conflicts.size(), MAX_REPORTED_CONFLICTS, listed);
+    }
+    return String.format("충돌 %d건: %s", conflicts.size(), listed);
+  }
+}
@@ -0,0 +1,104 @@
+package com.schedulebob.schedule.service;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.auth.repository.UserSummary;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.schedule.stream.ShiftEventHub;
+import com.schedulebob.schedule.view.StoreWeekDocument;
+import com.schedulebob.schedule.view.StoreWeekScheduleCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * 매장 근무표 조회 서비스.
+ * 요청자의 매장 소속은 사용자 캐시로 확인하고 근무표는 StoreWeekScheduleCache에서 읽으므로,
+ * 캐시가 채워진 뒤의 조회는 DB에 접근하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StoreScheduleService {
+
+  private static final String ADMIN = "admin";
+
+  private final StoreWeekScheduleCache storeWeekScheduleCache;
+  private final ShiftEventHub shiftEventHub;
+  private final UserRepository userRepository;
+
+  /**
+   * 매장 주간 근무표 조회
+   *
+   * @param principal 요청자
+   * @param storeId 매장 ID
+   * @param isoWeek ISO 주 (예: 2026-W10)
+   * @return 직렬화된 주간 근무표와 ETag
+   * @throws CustomException 주 형식이 잘못되면 400, 매장 소속이 아니면 403
+   */
+  public StoreWeekDocument getWeek(JwtPrincipal principal, Long storeId, String isoWeek) {
+    LocalDate monday;
+    try {
+      monday = LocalDate.parse(isoWeek + "-1", DateTimeFormatter.ISO_WEEK_DATE);
+    } catch (DateTimeParseException e) {
+      throw new CustomException("주는 2026-W10 형식으로 입력해주세요.");
+    }
+    requireStoreAccess(principal, storeId);
+    return storeWeekScheduleCache.get(storeId, monday);
+  }
+
+  /**
+   * 매장 근무 변경 구독 (SSE)
+   *
+   * @param principal 요청자
+   * @param storeId 매장 ID
+   * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+   * @return 근무 변경 이벤트 스트림
+   * @throws CustomException 매장 소속이 아니면 403
+   */
+  public SseEmitter subscribe(JwtPrincipal principal, Long storeId, String lastEventId) {
+    requireStoreAccess(principal, storeId);
+    return shiftEventHub.subscribe(storeId, principal, lastEventId);
+  }
+
+  /**
+   * 요청자가 매장 근무표를 볼 수 있는지 확인 (관리자이거나 매장 소속 직원)
+   *
+   * @param principal 요청자
+   * @param storeId 매장 ID
+   * @throws CustomException 매장 소속이 아니면 403
+   */
+  public void requireStoreAccess(JwtPrincipal principal, Long storeId) {
+    if (ADMIN.equals(principal.getRole())) {
+      return;
+    }
+    Long memberStoreId = userRepository.findSummaryById(principal.getUserId())
+        .map(UserSummary::getStoreId)
+        .orElse(null);
+    if (memberStoreId == null || !Objects.equals(memberStoreId, storeId)) {
+      throw new CustomException("매장 근무표를 조회할 권한이 없습니다.", HttpStatus.FORBIDDEN);
+    }
+  }
+
+  /**
+   * 요청자가 근무자의 근무를 볼 수 있는지 확인 (본인, 관리자, 또는 같은 매장 직원)
+   *
+   * @param principal 요청자
+   * @param userId 근무자 ID
+   * @throws CustomException 권한이 없으면 403
+   */
+  public void requireWorkerAccess(JwtPrincipal principal, Long userId) {
+    if (ADMIN.equals(principal.getRole()) || Objects.equals(principal.getUserId(), userId)) {
+      return;
+    }
+    Long storeId = userRepository.findSummaryById(userId)
+        .map(UserSummary::getStoreId)
+        .orElseThrow(() -> new CustomException("근무를 조회할 권한이 없습니다.", HttpStatus.FORBIDDEN));
+    requireStoreAccess(principal, storeId);
+  }
+}
@@ -0,0 +1,153 @@
+package com.schedulebob.schedule.solver;
+
+import java.util.Arrays;
+
+/**
+ * 탐색 중인 배정 상태와 점수.
+ * 충돌과 주간 근무 시간 한도는 지켜야 하는 조건으로 다루어, 이를 깨는 이동은 만들지 않는다.
+ * 점수는 낮을수록 좋으며 (배정되지 못한 근무 시간(분) x UNASSIGNED_WEIGHT) + (근무자별 배정 시간의 제곱 합)이다.
+ * 제곱 합 항은 같은 충원율이면 근무 시간을 고르게 나눈 배정을 선호하게 한다.
+ *
+ * 이동 하나의 점수 변화는 옮기는 근무와 충돌하는 근무만 보고 계산한다 (전체 재평가 없음).
+ */
+final class Assignment {
+
+  static final int UNASSIGNED = -1;
+
+  /**
+   * 빈 근무 1분의 비용. 한 근무자의 주간 근무 시간 제곱(최대 약 10^8)보다 충분히 크게 잡는다.
+   */
+  static final long UNASSIGNED_WEIGHT = 1L << 32;
+
+  private final SchedulingProblem problem;
+  private final int[] assignee;
+  private final long[] load;
+  private long unassignedMinutes;
+  private long loadSquares;
+
+  Assignment(SchedulingProblem problem) {
+    this.problem = problem;
+    this.assignee = new int[problem.shiftCount()];
+    this.load = new long[problem.workerCount()];
+    Arrays.fill(assignee, UNASSIGNED);
+    for (int shift = 0; shift < problem.shiftCount(); shift++) {
+      unassignedMinutes += problem.duration(shift);
+    }
+  }
+
+  private Assignment(Assignment source) {
+    this.problem = source.problem;
+    this.assignee = source.assignee.clone();
+    this.load = source.load.clone();
+    this.unassignedMinutes = source.unassignedMinutes;
+    this.loadSquares = source.loadSquares;
+  }
+
+  Assignment copy() {
+    return new Assignment(this);
+  }
+
+  long score() {
+    return unassignedMinutes * UNASSIGNED_WEIGHT + loadSquares;
+  }
+
+  int assignee(int shift) {
+    return assignee[shift];
+  }
+
+  int[] assignees() {
+    return assignee.clone();
+  }
+
+  long unassignedMinutes() {
+    return unassignedMinutes;
+  }
+
+  /**
+   * 근무를 근무자에게 옮길 때의 점수 변화
+   * 근무자가 이미 맡고 있는 충돌 근무는 빈 근무로 되돌린다(ejection).
+   * 되돌린 뒤에도 주간 근무 시간 한도를 넘으면 불가능한 이동이다.
+   *
+   * @param shift 근무 번호
+   * @param worker 근무자 번호 (UNASSIGNED면 배정 해제)
+   * @return 점수 변화, 불가능한 이동이면 Long.MAX_VALUE
+   */
+  long delta(int shift, int worker) {
+    int current = assignee[shift];
+    if (worker == current) {
+      return 0;
+    }
+    long duration = problem.duration(shift);
+    long unassignedChange = 0;
+    long squaresChange = 0;
+
+    if (current == UNASSIGNED) {
+      unassignedChange -= duration;
+    } else {
+      squaresChange += square(load[current] - duration) - square(load[current]);
+    }
+
+    if (worker == UNASSIGNED) {
+      unassignedChange += duration;
+    } else {
+      long ejected = ejectedMinutes(shift, worker);
+      long newLoad = load[worker] - ejected + duration;
+      if (newLoad > problem.capacity[worker]) {
+        return Long.MAX_VALUE;
+      }
+      unassignedChange += ejected;
+      squaresChange += square(newLoad) - square(load[worker]);
+    }
+    return unassignedChange * UNASSIGNED_WEIGHT + squaresChange;
+  }
+
+  /**
+   * 이동 적용 (delta가 가능한 이동이라고 판단한 경우에만 호출)
+   */
+  void apply(int shift, int worker) {
+    int current = assignee[shift];
+    if (worker == current) {
+      return;
+    }
+    if (worker != UNASSIGNED) {
+      for (int other : problem.conflicts[shift]) {
+        if (assignee[other] == worker) {
+          set(other, UNASSIGNED);
+        }
+      }
+    }
+    set(shift, worker);
+  }
+
+  private void set(int shift, int worker) {
+    long duration = problem.duration(shift);
+    int current = assignee[shift];
+    if (current == UNASSIGNED) {
+      unassignedMinutes -= duration;
+    } else {
+      loadSquares += square(load[current] - duration) - square(load[current]);
+      load[current] -= duration;
+    }
+    if (worker == UNASSIGNED) {
+      unassignedMinutes += duration;
+    } else {
+      loadSquares += square(load[worker] + duration) - square(load[worker]);
+      load[worker] += duration;
+    }
+    assignee[shift] = worker;
+  }
+
+  private long ejectedMinutes(int shift, int worker) {
+    long minutes = 0;
+    for (int other : problem.conflicts[shift]) {
+      if (assignee[other] == worker) {
+        minutes += problem.duration(other);
+      }
+    }
+    return minutes;
+  }
+
+  private static long square(long value) {
+    return value * value;
+  }
+}
@@ -0,0 +1,177 @@
+package com.schedulebob.schedule.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * 빈 근무 자동 배정기.
+ * 탐욕 배정으로 초기해를 만든 뒤, seed에서 파생한 난수로 독립적인 지역 탐색(late acceptance hill climbing)을
+ * runs개 만들어 fork/join 풀에서 동시에 실행하고 가장 좋은 결과를 고른다.
+ * 풀의 스레드 수가 runs보다 적으면 탐색이 여러 차례로 나뉘어 실행되므로,
+ * 각 탐색은 시작 시점부터 자기 몫의 시간 예산을 쓴다 (전체 소요 시간은 시간 예산과 비슷하게 유지된다).
+ *
+ * 이동은 "근무 하나를 다른 후보에게 옮기고, 그 후보가 맡던 충돌 근무는 비운다"이며,
+ * 점수 변화는 Assignment.delta로 옮기는 근무 주변만 보고 계산한다.
+ */
+public class AutoScheduler {
+
+  /**
+   * late acceptance 비교 대상 이력 길이
+   */
+  private static final int HISTORY_LENGTH = 1000;
+
+  /**
+   * 시간 예산을 확인하는 이동 시도 간격
+   */
+  private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+  private final ForkJoinPool pool;
+
+  public AutoScheduler(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * 자동 배정 실행
+   *
+   * @param problem 배정 문제
+   * @param options 탐색 옵션
+   * @return 탐색 중 찾은 가장 좋은 배정
+   */
+  public SolverResult solve(SchedulingProblem problem, SolverOptions options) {
+    Assignment initial = greedy(problem);
+    int runCount = Math.max(1, options.getRuns());
+    long runBudgetNanos = options.getTimeBudget().toNanos() * Math.min(runCount, pool.getParallelism()) / runCount;
+
+    SplittableRandom root = new SplittableRandom(options.getSeed());
+    List<SearchRun> runs = new ArrayList<>(runCount);
+    for (int i = 0; i < runCount; i++) {
+      runs.add(new SearchRun(problem, initial.copy(), root.split(), runBudgetNanos, options.getMaxIterations()));
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(runs)));
+
+    // 점수가 같으면 앞선 탐색의 결과를 골라 실행 순서와 관계없이 같은 결과를 낸다.
+    SearchRun best = runs.stream()
+        .min(Comparator.comparingLong((SearchRun run) -> run.join().score()))
+        .orElseThrow();
+    long iterations = runs.stream().mapToLong(run -> run.iterations).sum();
+    Assignment result = best.join();
+    return new SolverResult(result.assignees(), result.unassignedMinutes(), result.score(), iterations);
+  }
+
+  /**
+   * 후보가 적은 근무부터, 가능한 후보 중 지금까지 배정 시간이 가장 적은 근무자에게 배정한다.
+   * 충돌 근무를 비워야 하는 배정은 하지 않는다.
+   */
+  static Assignment greedy(SchedulingProblem problem) {
+    Assignment assignment = new Assignment(problem);
+    int[] order = IntStream.range(0, problem.shiftCount()).boxed()
+        .sorted(Comparator.<Integer>comparingInt(shift -> problem.candidates[shift].length)
+            .thenComparingLong(shift -> problem.start[shift]))
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    for (int shift : order) {
+      int bestWorker = Assignment.UNASSIGNED;
+      long bestDelta = 0;
+      for (int worker : problem.candidates[shift]) {
+        if (hasAssignedConflict(problem, assignment, shift, worker)) {
+          continue;
+        }
+        long delta = assignment.delta(shift, worker);
+        if (delta < bestDelta) {
+          bestDelta = delta;
+          bestWorker = worker;
+        }
+      }
+      if (bestWorker != Assignment.UNASSIGNED) {
+        assignment.apply(shift, bestWorker);
+      }
+    }
+    return assignment;
+  }
+
+  private static boolean hasAssignedConflict(SchedulingProblem problem, Assignment assignment,
+      int shift, int worker) {
+    for (int other : problem.conflicts[shift]) {
+      if (assignment.assignee(other) == worker) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 하나의 독립 탐색.
+   * 후보가 있는 근무를 무작위로 골라 다른 후보(또는 배정 해제)로 옮겨 보고,
+   * 현재 점수나 HISTORY_LENGTH번 전 점수보다 나쁘지 않으면 받아들인다.
+   */
+  private static final class SearchRun extends RecursiveTask<Assignment> {
+
+    private final SchedulingProblem problem;
+    private final Assignment current;
+    private final SplittableRandom random;
+    private final long budgetNanos;
+    private final long maxIterations;
+    private long iterations;
+
+    private SearchRun(SchedulingProblem problem, Assignment initial, SplittableRandom random,
+        long budgetNanos, long maxIterations) {
+      this.problem = problem;
+      this.current = initial;
+      this.random = random;
+      this.budgetNanos = budgetNanos;
+      this.maxIterations = maxIterations;
+    }
+
+    @Override
+    protected Assignment compute() {
+      long deadline = System.nanoTime() + budgetNanos;
+      int[] movable = IntStream.range(0, problem.shiftCount())
+          .filter(shift -> problem.candidates[shift].length > 0)
+          .toArray();
+      Assignment best = current.copy();
+      if (movable.length == 0) {
+        return best;
+      }
+
+      long[] history = new long[HISTORY_LENGTH];
+      Arrays.fill(history, current.score());
+      long score = current.score();
+
+      for (iterations = 0; iterations < maxIterations; iterations++) {
+        if (iterations % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+          break;
+        }
+        int shift = movable[random.nextInt(movable.length)];
+        int[] candidates = problem.candidates[shift];
+        // 후보 수 + 1 중 하나를 골라, 마지막 값은 배정 해제로 쓴다.
+        int pick = random.nextInt(candidates.length + 1);
+        int worker = pick == candidates.length ? Assignment.UNASSIGNED : candidates[pick];
+
+        long delta = current.delta(shift, worker);
+        if (delta == Long.MAX_VALUE || delta == 0 && worker == current.assignee(shift)) {
+          continue;
+        }
+        int slot = (int) (iterations % HISTORY_LENGTH);
+        long candidateScore = score + delta;
+        if (candidateScore <= score || candidateScore <= history[slot]) {
+          current.apply(shift, worker);
+          score = candidateScore;
+          if (score < best.score()) {
+            best = current.copy();
+          }
+        }
+        history[slot] = score;
+      }
+      return best;
+    }
+  }
+}
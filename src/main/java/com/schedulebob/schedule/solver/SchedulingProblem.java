@@ -0,0 +1,127 @@
+package com.schedulebob.schedule.solver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 자동 배정 문제 정의 (불변).
+ * 근무자와 빈 근무를 0부터 시작하는 번호로 다루며, 시각은 분 단위 정수다.
+ *
+ * 근무마다 후보 근무자(근무 가능 시간과 기존 근무를 통과한 근무자)를,
+ * 근무자마다 남은 주간 근무 가능 시간(분)을 가진다.
+ * 서로 겹치거나 사이 간격이 최소 휴식 시간보다 짧은 근무 쌍은 build() 시점에 충돌 목록으로 미리 계산한다.
+ */
+public final class SchedulingProblem {
+
+  final long[] start;
+  final long[] end;
+  final int[][] candidates;
+  final int[][] conflicts;
+  final long[] capacity;
+
+  private SchedulingProblem(long[] start, long[] end, int[][] candidates, int[][] conflicts,
+      long[] capacity) {
+    this.start = start;
+    this.end = end;
+    this.candidates = candidates;
+    this.conflicts = conflicts;
+    this.capacity = capacity;
+  }
+
+  public static Builder builder(long minRestMinutes) {
+    return new Builder(minRestMinutes);
+  }
+
+  public int shiftCount() {
+    return start.length;
+  }
+
+  public int workerCount() {
+    return capacity.length;
+  }
+
+  long duration(int shift) {
+    return end[shift] - start[shift];
+  }
+
+  /**
+   * SchedulingProblem 빌더.
+   */
+  public static final class Builder {
+
+    private final long minRestMinutes;
+    private final List<long[]> shifts = new ArrayList<>();
+    private final List<int[]> shiftCandidates = new ArrayList<>();
+    private final List<Long> capacities = new ArrayList<>();
+
+    private Builder(long minRestMinutes) {
+      this.minRestMinutes = minRestMinutes;
+    }
+
+    /**
+     * 근무자 추가
+     *
+     * @param capacityMinutes 이번 배정에서 더 받을 수 있는 근무 시간(분)
+     * @return 근무자 번호
+     */
+    public int addWorker(long capacityMinutes) {
+      capacities.add(Math.max(0, capacityMinutes));
+      return capacities.size() - 1;
+    }
+
+    /**
+     * 빈 근무 추가
+     *
+     * @param startMinute 시작 시각(분)
+     * @param endMinute 종료 시각(분, 미포함)
+     * @param candidateWorkers 후보 근무자 번호
+     * @return 근무 번호
+     */
+    public int addShift(long startMinute, long endMinute, int[] candidateWorkers) {
+      if (endMinute <= startMinute) {
+        throw new IllegalArgumentException("종료 시각은 시작 시각보다 늦어야 합니다.");
+      }
+      shifts.add(new long[] {startMinute, endMinute});
+      shiftCandidates.add(candidateWorkers.clone());
+      return shifts.size() - 1;
+    }
+
+    public SchedulingProblem build() {
+      int n = shifts.size();
+      long[] start = new long[n];
+      long[] end = new long[n];
+      for (int i = 0; i < n; i++) {
+        start[i] = shifts.get(i)[0];
+        end[i] = shifts.get(i)[1];
+      }
+
+      // 시작 시각 순으로 훑으며 종료 + 최소 휴식 시간 이전에 시작하는 근무를 충돌로 기록한다.
+      int[] order = IntStream.range(0, n).boxed()
+          .sorted(Comparator.comparingLong(i -> start[i]))
+          .mapToInt(Integer::intValue)
+          .toArray();
+      List<List<Integer>> adjacency = new ArrayList<>(n);
+      for (int i = 0; i < n; i++) {
+        adjacency.add(new ArrayList<>());
+      }
+      for (int a = 0; a < n; a++) {
+        int first = order[a];
+        for (int b = a + 1; b < n && start[order[b]] < end[first] + minRestMinutes; b++) {
+          adjacency.get(first).add(order[b]);
+          adjacency.get(order[b]).add(first);
+        }
+      }
+
+      int[][] conflicts = new int[n][];
+      for (int i = 0; i < n; i++) {
+        conflicts[i] = adjacency.get(i).stream().mapToInt(Integer::intValue).toArray();
+      }
+      long[] capacity = capacities.stream().mapToLong(Long::longValue).toArray();
+      return new SchedulingProblem(start, end, shiftCandidates.toArray(int[][]::new), conflicts,
+          capacity);
+    }
+  }
+
+}
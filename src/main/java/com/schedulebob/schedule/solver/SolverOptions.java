@@ -0,0 +1,36 @@
+package com.schedulebob.schedule.solver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 자동 배정 탐색 옵션.
+ * 시간 예산 안에서는 같은 seed, runs, maxIterations이면 항상 같은 결과가 나온다.
+ * 시간 예산에 먼저 걸리면 그 시점까지의 최선 결과를 반환하므로 재현되지 않을 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class SolverOptions {
+
+  /**
+   * 난수 seed
+   */
+  private final long seed;
+
+  /**
+   * 전체 탐색 시간 예산
+   */
+  private final Duration timeBudget;
+
+  /**
+   * 병렬로 실행할 독립 탐색 수 (각각 seed에서 파생된 난수를 사용)
+   */
+  private final int runs;
+
+  /**
+   * 탐색 하나당 최대 이동 시도 수
+   */
+  private final long maxIterations;
+}
@@ -0,0 +1,36 @@
+package com.schedulebob.schedule.solver;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동 배정 결과.
+ */
+@Getter
+@AllArgsConstructor
+public class SolverResult {
+
+  /**
+   * 근무 번호별 배정된 근무자 번호 (배정하지 못한 근무는 -1)
+   */
+  private final int[] assignees;
+
+  /**
+   * 배정하지 못한 근무 시간 합계(분)
+   */
+  private final long unassignedMinutes;
+
+  /**
+   * 최종 점수 (낮을수록 좋음)
+   */
+  private final long score;
+
+  /**
+   * 모든 탐색에서 시도한 이동 수
+   */
+  private final long iterations;
+
+  public boolean isComplete() {
+    return unassignedMinutes == 0;
+  }
+}
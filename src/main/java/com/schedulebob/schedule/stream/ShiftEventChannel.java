@@ -0,0 +1,147 @@
+package com.schedulebob.schedule.stream;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 매장 하나의 SSE 채널.
+ * 이벤트 번호를 채널마다 따로 매기고, 재연결한 클라이언트가 Last-Event-ID 이후 이벤트를 이어 받도록 최근 프레임을 보관한다.
+ *
+ * 이벤트 ID는 "세대.번호" 형식이다. 세대는 채널을 만들 때 정하므로 서버가 재시작했거나 다른 서버에 다시 연결하면 세대가 달라진다.
+ * 세대가 다르거나 놓친 이벤트가 보관 범위를 벗어나면 이어 받을 수 없으므로 resync 이벤트를 보내고,
+ * 클라이언트는 주간 근무표를 다시 조회(ETag 재검증)한다.
+ *
+ * 번호 부여, 보관, 구독자 버퍼 투입은 채널 단위로 직렬화되어 모든 구독자가 같은 순서로 받는다.
+ * 구독자 버퍼 투입은 블로킹되지 않으므로 잠금은 짧게 유지된다.
+ */
+class ShiftEventChannel {
+
+  static final String RESYNC_EVENT = "resync";
+
+  private final String generation;
+  private final int historySize;
+  private final ArrayDeque<Published> history;
+  private final Map<ShiftEventSubscriber, JwtPrincipal> subscribers = new ConcurrentHashMap<>();
+
+  private long sequence;
+
+  ShiftEventChannel(int historySize) {
+    this.generation = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    this.historySize = historySize;
+    this.history = new ArrayDeque<>(historySize);
+  }
+
+  /**
+   * 구독자 등록
+   * Last-Event-ID가 있으면 그 이후 보관된 이벤트를 먼저 넣고, 이어 받을 수 없으면 resync 이벤트를 넣는다.
+   *
+   * @param subscriber 구독자
+   * @param principal 구독한 토큰 (폐기 확인용)
+   * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (첫 연결이면 null)
+   */
+  synchronized void subscribe(ShiftEventSubscriber subscriber, JwtPrincipal principal, String lastEventId) {
+    subscribers.put(subscriber, principal);
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return;
+    }
+    long last = sequenceOf(lastEventId);
+    long oldest = history.isEmpty() ? sequence + 1 : history.peekFirst().sequence;
+    if (last < 0 || last > sequence || last < oldest - 1) {
+      subscriber.offer(frame(sequence, RESYNC_EVENT, "{}"));
+      return;
+    }
+    for (Published published : history) {
+      if (published.sequence > last) {
+        subscriber.offer(published.frame);
+      }
+    }
+  }
+
+  void unsubscribe(ShiftEventSubscriber subscriber) {
+    subscribers.remove(subscriber);
+  }
+
+  /**
+   * 다음 번호를 붙여 프레임을 만들고, 보관한 뒤 모든 구독자 버퍼에 넣는다.
+   *
+   * @param event 이벤트 이름
+   * @param data 직렬화된 JSON
+   */
+  synchronized void publish(String event, String data) {
+    long id = ++sequence;
+    Published published = new Published(id, frame(id, event, data));
+    if (history.size() == historySize) {
+      history.pollFirst();
+    }
+    history.addLast(published);
+    subscribers.keySet().forEach(subscriber -> subscriber.offer(published.frame));
+  }
+
+  /**
+   * 보낼 프레임이 없는 구독자에게만 하트비트 프레임을 넣는다.
+   */
+  void heartbeat(Set<DataWithMediaType> frame) {
+    subscribers.keySet().forEach(subscriber -> subscriber.offerIfIdle(frame));
+  }
+
+  /**
+   * 조건에 맞는 토큰으로 구독한 연결을 닫는다. 구독 해제는 emitter 완료 콜백에서 이루어진다.
+   *
+   * @param condition 닫을 토큰 조건
+   */
+  void closeIf(Predicate<JwtPrincipal> condition) {
+    subscribers.forEach((subscriber, principal) -> {
+      if (condition.test(principal)) {
+        subscriber.close();
+        subscriber.getEmitter().complete();
+      }
+    });
+  }
+
+  int size() {
+    return subscribers.size();
+  }
+
+  /**
+   * 이 채널에서 발급한 이벤트 ID의 번호. 세대가 다르거나 형식이 틀리면 -1
+   */
+  private long sequenceOf(String eventId) {
+    int dot = eventId.indexOf('.');
+    if (dot < 0 || !eventId.regionMatches(0, generation, 0, dot) || dot != generation.length()) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(eventId, dot + 1, eventId.length(), 10);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private Set<DataWithMediaType> frame(long id, String event, String data) {
+    String text = "id:" + generation + "." + id + "\nevent:" + event + "\ndata:" + data + "\n\n";
+    return Set.of(new DataWithMediaType(text.getBytes(StandardCharsets.UTF_8), MediaType.TEXT_EVENT_STREAM));
+  }
+
+  /**
+   * 번호가 붙은 보관 프레임
+   */
+  private static final class Published {
+
+    private final long sequence;
+    private final Set<DataWithMediaType> frame;
+
+    private Published(long sequence, Set<DataWithMediaType> frame) {
+      this.sequence = sequence;
+      this.frame = frame;
+    }
+  }
+}
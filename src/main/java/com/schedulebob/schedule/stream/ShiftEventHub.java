@@ -0,0 +1,167 @@
+package com.schedulebob.schedule.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.auth.repository.UserSummary;
+import com.schedulebob.auth.service.TokenRevocationList;
+import com.schedulebob.schedule.dto.ShiftResponse;
+import com.schedulebob.schedule.event.ShiftChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 근무 변경 SSE 발행 허브.
+ * 매장마다 채널을 두고, 커밋된 ShiftChangedEvent를 매장별로 한 번만 직렬화해 같은 프레임을 모든 구독자에게 넣는다.
+ * 이벤트 번호와 재연결 시 이어 받기는 채널(ShiftEventChannel) 단위로 관리한다.
+ * 채널은 한 번 만들어지면 구독자가 없어도 남겨 두어, 재연결 사이에 발행된 이벤트도 이어 받을 수 있게 한다.
+ *
+ * 전송은 구독자별 크기 제한 버퍼를 거쳐 가상 스레드에서 이루어진다.
+ * 버퍼가 넘치면 오래된 프레임부터 버리므로, 클라이언트는 번호가 건너뛰면 주간 근무표를 다시 조회(ETag 재검증)해야 한다.
+ *
+ * 연결은 구독한 Access Token의 만료 시각을 넘겨 유지되지 않으며,
+ * 토큰이 폐기되면 다음 하트비트에서 연결을 닫는다.
+ */
+@Component
+public class ShiftEventHub {
+
+  private static final String EVENT_NAME = "shift-changed";
+  private static final Set<DataWithMediaType> HEARTBEAT = frame(":\n\n".getBytes(StandardCharsets.UTF_8));
+
+  private final Map<Long, ShiftEventChannel> channels = new ConcurrentHashMap<>();
+  private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final UserRepository userRepository;
+  private final TokenRevocationList tokenRevocationList;
+  private final ObjectMapper objectMapper;
+  private final Counter droppedFrames;
+  private final long timeoutMillis;
+  private final int bufferSize;
+  private final int historySize;
+
+  public ShiftEventHub(UserRepository userRepository, TokenRevocationList tokenRevocationList,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      @Value("${schedule.shift-events.timeout-ms:1800000}") long timeoutMillis,
+      @Value("${schedule.shift-events.buffer-size:32}") int bufferSize,
+      @Value("${schedule.shift-events.history-size:256}") int historySize) {
+    this.userRepository = userRepository;
+    this.tokenRevocationList = tokenRevocationList;
+    this.objectMapper = objectMapper;
+    this.timeoutMillis = timeoutMillis;
+    this.bufferSize = bufferSize;
+    this.historySize = historySize;
+    this.droppedFrames = Counter.builder("schedule.shift-events.dropped").register(meterRegistry);
+    Gauge.builder("schedule.shift-events.subscribers", channels,
+            map -> map.values().stream().mapToInt(ShiftEventChannel::size).sum())
+        .register(meterRegistry);
+  }
+
+  /**
+   * 매장 근무 변경 구독
+   * 응답 헤더를 바로 내보내도록 빈 주석 프레임을 먼저 넣는다.
+   * 연결 유지 시간은 설정값과 토큰 만료 시각 중 먼저 오는 쪽으로 정한다.
+   *
+   * @param storeId 매장 ID
+   * @param principal 구독하는 토큰
+   * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+   * @return SSE 응답
+   */
+  public SseEmitter subscribe(Long storeId, JwtPrincipal principal, String lastEventId) {
+    long untilExpiry = Duration.between(Instant.now(), principal.getExpiration()).toMillis();
+    SseEmitter emitter = new SseEmitter(Math.max(1, Math.min(timeoutMillis, untilExpiry)));
+    ShiftEventSubscriber subscriber =
+        new ShiftEventSubscriber(emitter, senders, bufferSize, droppedFrames::increment);
+    ShiftEventChannel channel = channels.computeIfAbsent(storeId, key -> new ShiftEventChannel(historySize));
+    emitter.onCompletion(() -> unsubscribe(channel, subscriber));
+    emitter.onTimeout(() -> unsubscribe(channel, subscriber));
+    emitter.onError(e -> unsubscribe(channel, subscriber));
+
+    subscriber.offer(HEARTBEAT);
+    channel.subscribe(subscriber, principal, lastEventId);
+    return emitter;
+  }
+
+  /**
+   * 커밋된 근무 변경을 매장별로 묶어 발행
+   * 근무자의 매장은 사용자 캐시에서 찾고, 구독자가 없는 매장은 직렬화하지 않는다.
+   *
+   * @param event 근무 변경 이벤트
+   */
+  @TransactionalEventListener
+  public void onShiftChanged(ShiftChangedEvent event) {
+    if (channels.isEmpty()) {
+      return;
+    }
+    Map<Long, List<ShiftResponse>> byStore = new LinkedHashMap<>();
+    for (ShiftResponse shift : event.getShifts()) {
+      userRepository.findSummaryById(shift.getUserId())
+          .map(UserSummary::getStoreId)
+          .filter(channels::containsKey)
+          .ifPresent(storeId -> byStore.computeIfAbsent(storeId, key -> new ArrayList<>()).add(shift));
+    }
+    byStore.forEach((storeId, shifts) ->
+        channels.get(storeId).publish(EVENT_NAME, serialize(new ShiftChangedEvent(event.getType(), shifts))));
+  }
+
+  /**
+   * 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 프레임을 보낸다.
+   * 보낼 이벤트가 남아 있는 연결은 유휴 상태가 아니므로 건너뛴다.
+   * 끊긴 연결은 이 전송에서 드러나 정리된다.
+   * 같은 주기로 폐기된 토큰의 연결을 닫는다 (다른 서버의 폐기는 폐기 목록 동기화 후 반영된다).
+   */
+  @Scheduled(fixedDelayString = "${schedule.shift-events.heartbeat-ms:25000}")
+  public void heartbeat() {
+    channels.values().forEach(channel -> {
+      channel.closeIf(tokenRevocationList::isRevoked);
+      channel.heartbeat(HEARTBEAT);
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    channels.values().forEach(channel -> channel.closeIf(principal -> true));
+    senders.shutdown();
+  }
+
+  private void unsubscribe(ShiftEventChannel channel, ShiftEventSubscriber subscriber) {
+    subscriber.close();
+    channel.unsubscribe(subscriber);
+  }
+
+  private String serialize(ShiftChangedEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("근무 변경 이벤트를 직렬화하지 못했습니다.", e);
+    }
+  }
+
+  /**
+   * 완성된 SSE 프레임 바이트를 그대로 쓰도록 감싼다 (byte[]는 변환 없이 기록된다).
+   */
+  private static Set<DataWithMediaType> frame(byte[] bytes) {
+    return Set.of(new DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+  }
+}
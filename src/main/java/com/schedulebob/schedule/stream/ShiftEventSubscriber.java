@@ -0,0 +1,108 @@
+package com.schedulebob.schedule.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * SSE 구독자 한 명의 전송 버퍼.
+ * 프레임은 크기 제한 큐에 쌓이고, 큐가 가득 차면 가장 오래된 프레임을 버린다 (drop-oldest).
+ * 쌓인 프레임이 있을 때만 실행기에서 전송 작업을 돌리므로, 대기 중인 연결은 스레드를 점유하지 않는다.
+ * 느린 클라이언트는 자기 전송 작업만 붙잡고 발행 측과 다른 구독자는 기다리지 않는다.
+ */
+class ShiftEventSubscriber {
+
+  private final SseEmitter emitter;
+  private final Executor executor;
+  private final int capacity;
+  private final Runnable onDrop;
+  private final ArrayDeque<Set<DataWithMediaType>> buffer;
+
+  private boolean draining;
+  private boolean closed;
+
+  ShiftEventSubscriber(SseEmitter emitter, Executor executor, int capacity, Runnable onDrop) {
+    this.emitter = emitter;
+    this.executor = executor;
+    this.capacity = capacity;
+    this.onDrop = onDrop;
+    this.buffer = new ArrayDeque<>(capacity);
+  }
+
+  SseEmitter getEmitter() {
+    return emitter;
+  }
+
+  /**
+   * 프레임을 버퍼에 넣고, 전송 작업이 돌고 있지 않으면 시작한다.
+   * 발행 스레드는 여기서 블로킹되지 않는다.
+   *
+   * @param frame 직렬화가 끝난 SSE 프레임 (모든 구독자가 같은 인스턴스를 공유)
+   */
+  void offer(Set<DataWithMediaType> frame) {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      if (buffer.size() == capacity) {
+        buffer.pollFirst();
+        onDrop.run();
+      }
+      buffer.addLast(frame);
+      if (draining) {
+        return;
+      }
+      draining = true;
+    }
+    executor.execute(this::drain);
+  }
+
+  /**
+   * 버퍼가 비어 있고 전송 중이 아닐 때만 프레임을 넣는다 (하트비트용).
+   * 보낼 프레임이 남아 있으면 연결이 이미 쓰이고 있으므로, 하트비트가 번호 붙은 이벤트를 밀어내지 않게 건너뛴다.
+   *
+   * @param frame 번호 없는 주석 프레임
+   */
+  void offerIfIdle(Set<DataWithMediaType> frame) {
+    synchronized (this) {
+      if (closed || draining || !buffer.isEmpty()) {
+        return;
+      }
+      buffer.addLast(frame);
+      draining = true;
+    }
+    executor.execute(this::drain);
+  }
+
+  /**
+   * 연결이 끝나면 버퍼를 비우고 이후 프레임을 받지 않는다.
+   */
+  synchronized void close() {
+    closed = true;
+    buffer.clear();
+  }
+
+  private void drain() {
+    while (true) {
+      Set<DataWithMediaType> frame;
+      synchronized (this) {
+        frame = closed ? null : buffer.pollFirst();
+        if (frame == null) {
+          draining = false;
+          return;
+        }
+      }
+      try {
+        emitter.send(frame);
+      } catch (IOException | IllegalStateException e) {
+        // 끊긴 연결. 정리는 컨테이너가 알려주는 onError/onCompletion 콜백에서 한다.
+        close();
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.schedulebob.schedule.view;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 직렬화가 끝난 매장 주간 근무표.
+ * 응답 본문(JSON 바이트)과 그 SHA-256으로 만든 강한 ETag를 함께 보관해, 조회 시에는 직렬화도 해시도 하지 않는다.
+ */
+public class StoreWeekDocument {
+
+  private final List<WeekShift> shifts;
+  private final byte[] body;
+  private final String etag;
+
+  StoreWeekDocument(List<WeekShift> shifts, byte[] body) {
+    this.shifts = shifts;
+    this.body = body;
+    this.etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(body)) + "\"";
+  }
+
+  List<WeekShift> getShifts() {
+    return shifts;
+  }
+
+  /**
+   * 응답 본문 (application/json). 공유 배열이므로 수정하지 않는다.
+   */
+  public byte[] getBody() {
+    return body;
+  }
+
+  /**
+   * 강한 ETag (따옴표 포함)
+   */
+  public String getEtag() {
+    return etag;
+  }
+
+  private static byte[] sha256(byte[] bytes) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.schedulebob.schedule.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.schedulebob.auth.event.UserStoreChangedEvent;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.auth.repository.UserSummary;
+import com.schedulebob.schedule.dto.ShiftResponse;
+import com.schedulebob.schedule.event.ShiftChangedEvent;
+import com.schedulebob.schedule.repository.ShiftRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 매장별 ISO 주 근무표 읽기 모델.
+ * (매장, 주) 단위로 직렬화가 끝난 문서를 크기 제한 캐시에 보관하며, 캐시에 없을 때만 한 번의 조인 쿼리로 만든다.
+ * 적재 쿼리는 캐시 잠금 밖에서 먼저 자리를 차지한 호출 스레드가 실행하고 (VirtualThreadCaffeineCacheManager와 같은 방식),
+ * 같은 주를 동시에 조회한 스레드는 그 Future를 기다린다.
+ *
+ * 근무가 바뀌면 커밋 후 ShiftChangedEvent를 받아 캐시에 있는 해당 주 문서에만 변경분을 반영한다.
+ * 반영은 근무 ID 기준 추가/삭제라 같은 변경이 두 번 들어와도 결과가 같다.
+ * 적재 중인 항목에 변경이 들어오면 적재 결과에 변경이 빠졌을 수 있으므로 항목을 버려 다음 조회가 다시 적재하게 한다.
+ *
+ * 변경분 반영은 이 서버에서 커밋된 근무만 받으므로, 다른 서버의 변경이나 직원 이름 변경은
+ * 적재 후 ttl이 지나 문서를 다시 만들 때 반영된다. 변경분을 반영해도 만료 시각은 늘어나지 않는다.
+ * 직원이 매장을 옮기면 두 매장의 문서를 모두 버린다.
+ */
+@Component
+public class StoreWeekScheduleCache {
+
+  private static final Comparator<WeekShift> ORDER =
+      Comparator.comparing(WeekShift::getStartAt).thenComparing(WeekShift::getId);
+
+  private final AsyncCache<StoreWeek, StoreWeekDocument> documents;
+  private final ShiftRepository shiftRepository;
+  private final UserRepository userRepository;
+  private final ObjectMapper objectMapper;
+
+  public StoreWeekScheduleCache(ShiftRepository shiftRepository, UserRepository userRepository,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      @Value("${schedule.week-view.max-entries:10000}") long maxEntries,
+      @Value("${schedule.week-view.ttl-ms:300000}") long ttlMillis) {
+    this.shiftRepository = shiftRepository;
+    this.userRepository = userRepository;
+    this.objectMapper = objectMapper;
+    Duration ttl = Duration.ofMillis(ttlMillis);
+    this.documents = Caffeine.newBuilder()
+        .maximumSize(maxEntries)
+        .expireAfter(Expiry.<StoreWeek, StoreWeekDocument>creating((key, document) -> ttl))
+        .recordStats()
+        .buildAsync();
+    CaffeineCacheMetrics.monitor(meterRegistry, documents.synchronous(), "storeWeekSchedule");
+  }
+
+  /**
+   * 매장 주간 근무표 조회
+   *
+   * @param storeId 매장 ID
+   * @param anyDayOfWeek 주에 속한 아무 날짜
+   * @return 직렬화된 주간 근무표
+   */
+  public StoreWeekDocument get(Long storeId, LocalDate anyDayOfWeek) {
+    StoreWeek key = new StoreWeek(storeId, monday(anyDayOfWeek));
+    CompletableFuture<StoreWeekDocument> existing = documents.getIfPresent(key);
+    if (existing == null) {
+      CompletableFuture<StoreWeekDocument> loading = new CompletableFuture<>();
+      existing = documents.asMap().putIfAbsent(key, loading);
+      if (existing == null) {
+        return load(key, loading);
+      }
+    }
+    try {
+      return existing.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+
+  /**
+   * 근무 변경을 캐시에 있는 주간 문서에 반영 (커밋 후)
+   * 근무자의 매장은 사용자 캐시에서 찾는다.
+   *
+   * @param event 근무 변경 이벤트
+   */
+  @TransactionalEventListener
+  public void onShiftChanged(ShiftChangedEvent event) {
+    for (ShiftResponse shift : event.getShifts()) {
+      UserSummary user = userRepository.findSummaryById(shift.getUserId()).orElse(null);
+      if (user == null || user.getStoreId() == null) {
+        continue;
+      }
+      WeekShift changed = new WeekShift(shift.getId(), shift.getUserId(), user.getName(),
+          shift.getStartAt(), shift.getEndAt());
+      boolean created = event.getType() == ShiftChangedEvent.Type.CREATED;
+
+      // 일요일 자정을 넘기는 근무는 두 주 모두에 반영한다.
+      for (LocalDate week = monday(shift.getStartAt().toLocalDate());
+          week.atStartOfDay().isBefore(shift.getEndAt()); week = week.plusWeeks(1)) {
+        documents.asMap().computeIfPresent(new StoreWeek(user.getStoreId(), week),
+            (key, document) -> document.isDone() && !document.isCompletedExceptionally()
+                ? CompletableFuture.completedFuture(apply(key, document.join(), changed, created))
+                : null);
+      }
+    }
+  }
+
+  /**
+   * 직원의 매장 이동/삭제 시 이전 매장과 새 매장의 주간 문서를 모두 버린다 (커밋 후)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserStoreChanged(UserStoreChangedEvent event) {
+    documents.asMap().keySet().removeIf(key -> Objects.equals(key.storeId, event.getPreviousStoreId())
+        || Objects.equals(key.storeId, event.getStoreId()));
+  }
+
+  private StoreWeekDocument load(StoreWeek key, CompletableFuture<StoreWeekDocument> loading) {
+    try {
+      LocalDateTime from = key.monday.atStartOfDay();
+      List<WeekShift> shifts = shiftRepository.findStoreWeek(key.storeId, from, from.plusWeeks(1));
+      StoreWeekDocument document = serialize(key, shifts);
+      loading.complete(document);
+      return document;
+    } catch (Throwable e) {
+      documents.asMap().remove(key, loading);
+      loading.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private StoreWeekDocument apply(StoreWeek key, StoreWeekDocument document, WeekShift changed,
+      boolean created) {
+    List<WeekShift> shifts = new ArrayList<>(document.getShifts().size() + 1);
+    for (WeekShift shift : document.getShifts()) {
+      if (!shift.getId().equals(changed.getId())) {
+        shifts.add(shift);
+      }
+    }
+    if (created) {
+      shifts.add(changed);
+      shifts.sort(ORDER);
+    }
+    return serialize(key, shifts);
+  }
+
+  private StoreWeekDocument serialize(StoreWeek key, List<WeekShift> shifts) {
+    String week = String.format("%d-W%02d",
+        key.monday.get(IsoFields.WEEK_BASED_YEAR), key.monday.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(new StoreWeekView(key.storeId, week, shifts));
+      return new StoreWeekDocument(List.copyOf(shifts), body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("주간 근무표를 직렬화하지 못했습니다.", e);
+    }
+  }
+
+  private static LocalDate monday(LocalDate date) {
+    return date.with(DayOfWeek.MONDAY);
+  }
+
+  /**
+   * 캐시 키 (매장 ID, 주의 월요일)
+   */
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  private static final class StoreWeek {
+
+    private final Long storeId;
+    private final LocalDate monday;
+  }
+}
@@ -0,0 +1,26 @@
+package com.schedulebob.schedule.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 매장 주간 근무표 응답 문서.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreWeekView {
+
+  private final Long storeId;
+
+  /**
+   * ISO 주 (예: 2026-W10)
+   */
+  private final String week;
+
+  /**
+   * 주와 겹치는 근무 목록 (시작 일시, ID 순)
+   */
+  private final List<WeekShift> shifts;
+}
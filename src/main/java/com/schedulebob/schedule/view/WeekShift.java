@@ -0,0 +1,21 @@
+package com.schedulebob.schedule.view;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 주간 근무표의 근무 한 건 (근무자 이름 포함).
+ * 주간 근무표 적재 쿼리의 프로젝션으로도 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class WeekShift {
+
+  private final Long id;
+  private final Long userId;
+  private final String name;
+  private final LocalDateTime startAt;
+  private final LocalDateTime endAt;
+}
@@ -0,0 +1,37 @@
+-- 인증 스키마 변경 (운영은 ddl-auto: validate 이므로 배포 전에 적용한다)
+-- 대상: 이 변경 이전의 스키마 (ddl-auto: update로 만들어진 기존 테이블)
+-- 적용 순서: auth_schema.sql -> schedule_schema.sql -> id_sequences.sql
+
+-- 세션 (UserSessions)
+-- 1) 원본 토큰 컬럼을 SHA-256 다이제스트 컬럼으로 바꾼다. 기존 세션은 다이제스트로 옮겨 로그아웃되지 않게 한다.
+ALTER TABLE user_sessions ADD COLUMN refresh_token_hash CHAR(64) NULL;
+UPDATE user_sessions SET refresh_token_hash = SHA2(refresh_token, 256);
+
+-- 2) 사용자당 세션 하나만 남긴다 (가장 최근에 발급된 세션).
+--    기본 키를 user_id로 바꾸기 전에 중복을 지워야 하며, 남아 있으면 ON DUPLICATE KEY UPDATE가 행을 추가한다.
+DELETE s FROM user_sessions s
+JOIN user_sessions newer
+  ON newer.user_id = s.user_id
+ AND (newer.issued_at > s.issued_at OR (newer.issued_at = s.issued_at AND newer.id > s.id));
+
+-- 3) 대리 키 id를 없애고 user_id를 기본 키로 삼는다. AUTO_INCREMENT가 붙은 열은 기본 키를 먼저 내릴 수 없다.
+ALTER TABLE user_sessions MODIFY id BIGINT NOT NULL;
+ALTER TABLE user_sessions
+  DROP PRIMARY KEY,
+  DROP COLUMN id,
+  DROP COLUMN access_token,
+  DROP COLUMN refresh_token,
+  MODIFY refresh_token_hash CHAR(64) NOT NULL,
+  ADD PRIMARY KEY (user_id),
+  ADD CONSTRAINT uk_user_sessions_refresh_token_hash UNIQUE (refresh_token_hash),
+  ADD INDEX idx_user_sessions_expired_at (expired_at);
+
+-- 토큰 폐기 기록 (RevokedToken)
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+  revocation_key VARCHAR(255) NOT NULL PRIMARY KEY,
+  kind ENUM('SUBJECT', 'TOKEN') NOT NULL,
+  revoked_at DATETIME(6) NOT NULL,
+  expired_at DATETIME(6) NOT NULL,
+  INDEX idx_revoked_tokens_revoked_at (revoked_at),
+  INDEX idx_revoked_tokens_expired_at (expired_at)
+) ENGINE = InnoDB;
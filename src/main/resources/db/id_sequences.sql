@@ -0,0 +1,17 @@
+-- 사용자 ID 할당 테이블 (User 엔티티의 TABLE 생성기)
+-- IDENTITY 대신 50개씩 미리 할당받아 INSERT 배치가 가능하도록 한다.
+-- pooled 최적화기는 저장된 값을 할당 구간의 상한으로 보므로(상한 - 49 ~ 상한),
+-- 기존 ID와 겹치지 않도록 현재 최대 ID + 할당 크기(50)로 초기화한다.
+CREATE TABLE IF NOT EXISTS id_sequences (
+  sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+  next_val BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 50 FROM users
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+-- 근무 ID (Shift 엔티티의 TABLE 생성기)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'shifts', COALESCE(MAX(id), 0) + 50 FROM shifts
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
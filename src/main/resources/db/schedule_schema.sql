@@ -0,0 +1,26 @@
+-- 근무 배정/근무 가능 시간 스키마 (운영은 ddl-auto: validate 이므로 배포 전에 적용한다)
+-- auth_schema.sql 다음, id_sequences.sql 전에 실행한다 (id_sequences.sql이 shifts 테이블을 읽는다).
+
+-- 사용자 소속 매장
+ALTER TABLE users ADD COLUMN store_id BIGINT NULL;
+CREATE INDEX idx_users_store_id ON users (store_id);
+
+-- 근무 배정 (Shift). ID는 id_sequences의 'shifts' 행에서 할당한다.
+CREATE TABLE IF NOT EXISTS shifts (
+  id BIGINT NOT NULL PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  start_at DATETIME(6) NOT NULL,
+  end_at DATETIME(6) NOT NULL,
+  created_at DATETIME(6) NOT NULL,
+  INDEX idx_shifts_user_start (user_id, start_at)
+) ENGINE = InnoDB;
+
+-- 주간 근무 가능 시간 (WorkerAvailability). 15분 단위 672슬롯 비트맵
+CREATE TABLE IF NOT EXISTS worker_availability (
+  user_id BIGINT NOT NULL PRIMARY KEY,
+  slots BINARY(84) NOT NULL,
+  updated_at DATETIME(6) NOT NULL
+) ENGINE = InnoDB;
+
+-- 직원별 주간 최대 근무 시간(분). NULL이면 schedule.default-max-weekly-hours를 따른다.
+ALTER TABLE worker_availability ADD COLUMN max_weekly_minutes INT NULL;
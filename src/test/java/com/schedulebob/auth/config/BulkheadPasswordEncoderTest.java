@@ -0,0 +1,90 @@
+package com.schedulebob.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.schedulebob.global.exception.CustomException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱 스레드와 대기 큐가 모두 찬 경우 기다리지 않고 503으로 거절하는지,
+ * 실행된 작업마다 대기 시간이 기록되는지 검증하는 테스트.
+ */
+class BulkheadPasswordEncoderTest {
+
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final ExecutorService callers = Executors.newFixedThreadPool(2);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final BulkheadPasswordEncoder encoder =
+      new BulkheadPasswordEncoder(new BlockingEncoder(), 1, 1, registry);
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    callers.shutdownNow();
+    encoder.shutdown();
+  }
+
+  @Test
+  void fullQueueRejectsWith503() throws Exception {
+    // 스레드 하나가 실행 중이고 큐 한 칸이 찬 상태를 만든다.
+    Future<Boolean> running = callers.submit(() -> encoder.matches("a", "a"));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Future<Boolean> queued = callers.submit(() -> encoder.matches("b", "b"));
+    awaitQueueDepth(1);
+
+    assertThatThrownBy(() -> encoder.matches("c", "c"))
+        .isInstanceOfSatisfying(CustomException.class,
+            e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    assertThat(encoder.rejectedCount()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(encoder.startedCount()).isEqualTo(2);
+
+    // 큐에서 기다린 작업의 대기 시간도 작업 단위로 기록된다.
+    Timer wait = registry.get(BulkheadPasswordEncoder.WAIT_TIMER).timer();
+    assertThat(wait.count()).isEqualTo(2);
+    assertThat(wait.max(TimeUnit.NANOSECONDS)).isPositive();
+    assertThat(registry.get("auth.password.hashing.rejected").functionCounter().count()).isEqualTo(1);
+  }
+
+  private void awaitQueueDepth(int depth) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (encoder.queueDepth() < depth && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(encoder.queueDepth()).isEqualTo(depth);
+  }
+
+  private class BlockingEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return rawPassword.toString().equals(encodedPassword);
+    }
+  }
+}
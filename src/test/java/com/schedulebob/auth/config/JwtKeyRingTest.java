@@ -0,0 +1,98 @@
+package com.schedulebob.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 키 교체 시 기존 토큰 검증과 JWKS 공개 범위를 검증하는 테스트.
+ */
+class JwtKeyRingTest {
+
+  private final KeyPair oldKey = generate();
+  private final KeyPair newKey = generate();
+
+  @Test
+  void tokenSignedWithRetiredKeyStillVerifiesAfterRotation() {
+    JwtTokenProvider before = provider(properties("k1", Map.of("k1", key(oldKey, true))));
+    String token = before.createAccessToken(1L, "user@schedulebob.com", "employee");
+
+    // k2로 교체하고 k1은 공개 키만 남긴다.
+    JwtTokenProvider after = provider(properties("k2",
+        Map.of("k1", key(oldKey, false), "k2", key(newKey, true))));
+
+    assertThat(after.verify(token).getUserId()).isEqualTo(1L);
+    String rotated = after.createAccessToken(1L, "user@schedulebob.com", "employee");
+    assertThat(after.verify(rotated).getSubject()).isEqualTo("user@schedulebob.com");
+  }
+
+  @Test
+  void tokenWithUnknownKidIsRejected() {
+    String token = new JwtTokenProvider(JwtKeyRing.ephemeral())
+        .createAccessToken(1L, "user@schedulebob.com", "employee");
+    JwtTokenProvider provider = provider(properties("k1", Map.of("k1", key(oldKey, true))));
+
+    assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(JwtException.class);
+  }
+
+  @Test
+  void jwksPublishesEveryVerificationKey() {
+    JwtKeyRing keyRing = JwtKeyRing.from(properties("k2",
+        Map.of("k1", key(oldKey, false), "k2", key(newKey, true))));
+
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> keys = (List<Map<String, Object>>) keyRing.getJwks().get("keys");
+    assertThat(keys).extracting(jwk -> jwk.get("kid")).containsExactlyInAnyOrder("k1", "k2");
+    assertThat(keys).allSatisfy(jwk -> {
+      assertThat(jwk).containsEntry("kty", "EC").containsEntry("alg", "ES256");
+      assertThat(Base64.getUrlDecoder().decode((String) jwk.get("x"))).hasSize(32);
+    });
+  }
+
+  @Test
+  void activeKeyWithoutPrivateKeyFailsFast() {
+    assertThatThrownBy(() -> JwtKeyRing.from(properties("k1", Map.of("k1", key(oldKey, false)))))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static JwtTokenProvider provider(JwtSigningProperties properties) {
+    JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.from(properties));
+    provider.init();
+    return provider;
+  }
+
+  private static JwtSigningProperties properties(String activeKid,
+      Map<String, JwtSigningProperties.Key> keys) {
+    JwtSigningProperties properties = new JwtSigningProperties();
+    properties.setActiveKid(activeKid);
+    properties.setKeys(keys);
+    return properties;
+  }
+
+  private static JwtSigningProperties.Key key(KeyPair keyPair, boolean withPrivateKey) {
+    JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+    key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    if (withPrivateKey) {
+      key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+    }
+    return key;
+  }
+
+  private static KeyPair generate() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+      generator.initialize(new ECGenParameterSpec("secp256r1"));
+      return generator.generateKeyPair();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.schedulebob.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 검증된 토큰 캐시의 적중/미스 집계, 만료, 용량 초과 시 정리를 검증하는 테스트.
+ */
+class VerifiedTokenCacheTest {
+
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  @Test
+  void secondLookupIsServedFromCache() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+    Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+
+    JwtPrincipal first = cache.get("token-1", verifier);
+    JwtPrincipal second = cache.get("token-1", verifier);
+
+    assertThat(second).isSameAs(first);
+    assertThat(verifications).hasValue(1);
+    assertThat(cache.hitCount()).isEqualTo(1);
+    assertThat(cache.missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void entryExpiresWithTheToken() throws Exception {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+    Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusMillis(50));
+
+    cache.get("token-1", verifier);
+    Thread.sleep(100);
+    cache.get("token-1", verifier);
+
+    assertThat(verifications).hasValue(2);
+    assertThat(cache.hitCount()).isZero();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void alreadyExpiredAndRejectedTokensAreNotCached() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+    cache.get("expired", verifier(Instant.now().minusSeconds(1)));
+    assertThatThrownBy(() -> cache.get("forged", token -> {
+      throw new JwtException("invalid signature");
+    })).isInstanceOf(JwtException.class);
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void fullCacheTrimsToNinetyPercent() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+    Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+
+    for (int i = 0; i < 11; i++) {
+      cache.get("token-" + i, verifier);
+    }
+
+    // 11번째 토큰이 들어올 때 9개까지 비운 뒤 저장한다.
+    assertThat(cache.evictionCount()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(10);
+  }
+
+  @Test
+  void expiredEntriesAreRemovedBeforeLiveOnes() throws Exception {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10);
+    for (int i = 0; i < 5; i++) {
+      cache.get("short-" + i, verifier(Instant.now().plusMillis(50)));
+    }
+    for (int i = 0; i < 5; i++) {
+      cache.get("long-" + i, verifier(Instant.now().plusSeconds(60)));
+    }
+    Thread.sleep(100);
+
+    cache.get("new", verifier(Instant.now().plusSeconds(60)));
+
+    assertThat(cache.evictionCount()).isZero();
+    assertThat(cache.size()).isEqualTo(6);
+  }
+
+  @Test
+  void concurrentMissesStayNearTheSizeLimit() throws Exception {
+    int threads = 8;
+    int tokensPerThread = 2000;
+    VerifiedTokenCache cache = new VerifiedTokenCache(100);
+    Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(60));
+
+    List<Future<?>> futures = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      for (int t = 0; t < threads; t++) {
+        int thread = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < tokensPerThread; i++) {
+            String token = "token-" + thread + "-" + i;
+            assertThat(cache.get(token, verifier).getSubject()).isEqualTo(token);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    // 크기 확인과 저장 사이의 경합으로 스레드 수만큼은 넘칠 수 있지만 그 이상 늘어나지 않는다.
+    assertThat(cache.size()).isLessThanOrEqualTo(100 + threads);
+    assertThat(cache.missCount()).isEqualTo((long) threads * tokensPerThread);
+    assertThat(cache.evictionCount()).isPositive();
+  }
+
+  private Function<String, JwtPrincipal> verifier(Instant expiration) {
+    return token -> {
+      verifications.incrementAndGet();
+      return new JwtPrincipal(token + "-jti", 1L, token, "employee", Instant.now(), expiration);
+    };
+  }
+}
@@ -0,0 +1,44 @@
+package com.schedulebob.auth.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 신뢰하는 프록시(루프백)를 거친 로그인 요청이 X-Forwarded-For의 클라이언트 IP별로 제한되는지 검증하는 테스트.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "auth.rate-limit.ip-per-minute=1",
+    "auth.rate-limit.email-per-minute=100"
+})
+@ActiveProfiles("test")
+class LoginClientIpTest {
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  void ipLimitIsKeyedOnForwardedClientAddress() {
+    assertThat(login("203.0.113.1")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    // 같은 로드밸런서를 거쳐도 다른 클라이언트는 자기 버킷을 쓴다.
+    assertThat(login("203.0.113.2")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    assertThat(login("203.0.113.1")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+  }
+
+  private HttpStatusCode login(String clientIp) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("X-Forwarded-For", clientIp);
+    Map<String, String> body = Map.of("email", "nobody@schedulebob.com", "password", "password1234");
+    return restTemplate.postForEntity("/api/auth/login", new HttpEntity<>(body, headers), String.class)
+        .getStatusCode();
+  }
+}
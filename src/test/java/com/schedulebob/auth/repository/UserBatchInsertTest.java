@@ -0,0 +1,102 @@
+package com.schedulebob.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.schedulebob.auth.entity.User;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 사용자 저장이 행 단위 INSERT가 아닌 JDBC 배치로 전송되는지 검증하는 테스트.
+ * 드라이버로 넘어가는 실행 단위를 datasource-proxy로 기록한다.
+ * 운영(MySQL)에서는 rewriteBatchedStatements로 배치 하나가 다중 행 INSERT 한 문장이 된다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserBatchInsertTest {
+
+  private static final List<ExecutionInfo> USER_INSERTS = new CopyOnWriteArrayList<>();
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @BeforeEach
+  void setUp() {
+    USER_INSERTS.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void saveAllSendsInsertsInJdbcBatches() {
+    List<User> users = IntStream.range(0, 120)
+        .mapToObj(UserBatchInsertTest::user)
+        .toList();
+
+    userRepository.saveAll(users);
+
+    // batch_size 50 기준: 120건은 50 + 50 + 20 세 번의 배치 실행으로 전송된다.
+    assertThat(USER_INSERTS).hasSize(3);
+    assertThat(USER_INSERTS).allMatch(ExecutionInfo::isBatch);
+    assertThat(USER_INSERTS).extracting(ExecutionInfo::getBatchSize).containsExactly(50, 50, 20);
+    assertThat(userRepository.count()).isEqualTo(120);
+  }
+
+  private static User user(int i) {
+    User user = new User();
+    user.setEmail("batch" + i + "@schedulebob.com");
+    user.setName("직원" + i);
+    user.setRole("employee");
+    return user;
+  }
+
+  @TestConfiguration
+  static class DataSourceProxyConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceProxy() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+          }
+          return ProxyDataSourceBuilder.create(dataSource)
+              .listener(new QueryExecutionListener() {
+                @Override
+                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                }
+
+                @Override
+                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                  boolean userInsert = queryInfoList.stream()
+                      .anyMatch(query -> query.getQuery().toLowerCase().startsWith("insert into users"));
+                  if (userInsert) {
+                    USER_INSERTS.add(execInfo);
+                  }
+                }
+              })
+              .build();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package com.schedulebob.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.schedulebob.auth.config.JwtTokenProvider;
+import com.schedulebob.auth.dto.LoginRequest;
+import com.schedulebob.auth.dto.LoginResponse;
+import com.schedulebob.auth.entity.User;
+import com.schedulebob.auth.entity.UserSessions;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.auth.repository.UserSessionsRepository;
+import com.schedulebob.auth.repository.UserSummary;
+import com.schedulebob.global.config.CacheConfig;
+import com.schedulebob.global.util.TokenDigests;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 로그인 한 번에 실행되는 SQL 수를 검증하는 테스트.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceLoginTest {
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private UserSessionsRepository userSessionsRepository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private LoginBookkeepingBuffer loginBookkeepingBuffer;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  private static final List<Boolean> PASSWORD_CHECK_IN_TRANSACTION = new CopyOnWriteArrayList<>();
+
+  private Statistics statistics;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = new User();
+    user.setEmail("login@schedulebob.com");
+    user.setPassword(passwordEncoder.encode("password1234"));
+    user.setName("홍길동");
+    user.setRole("employee");
+    user = userRepository.save(user);
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    userSessionsRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void loginExecutesTwoStatements() {
+    // 사용자 조회, 세션 upsert (lastLoginAt은 쓰기 지연 버퍼로 반영)
+    authService.login(loginRequest());
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityUpdateCount()).isZero();
+  }
+
+  @Test
+  void passwordCheckRunsOutsideTransaction() {
+    PASSWORD_CHECK_IN_TRANSACTION.clear();
+
+    authService.login(loginRequest());
+
+    // 해싱 대기 중에 커넥션을 잡고 있지 않도록 비밀번호 검증 시점에는 트랜잭션이 없어야 한다.
+    assertThat(PASSWORD_CHECK_IN_TRANSACTION).containsExactly(false);
+  }
+
+  @Test
+  void repeatedLoginKeepsPasswordHashOutOfCache() {
+    authService.login(loginRequest());
+    statistics.clear();
+
+    LoginResponse response = authService.login(loginRequest());
+
+    // 비밀번호 해시는 공유 캐시에 두지 않으므로 로그인마다 사용자 조회와 세션 upsert가 실행된다.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    UserSessions session = userSessionsRepository.findByUserId(user.getId()).orElseThrow();
+    assertThat(session.getRefreshTokenHash())
+        .isEqualTo(TokenDigests.sha256Hex(response.getRefreshToken()));
+
+    // 캐시에는 비밀번호가 없는 불변 프로젝션만 남는다.
+    userRepository.findSummaryByEmail("login@schedulebob.com");
+    Cache cache = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+    assertThat(cache.get("login@schedulebob.com").get()).isInstanceOf(UserSummary.class);
+  }
+
+  @Test
+  void refreshExecutesSingleJoinedQuery() {
+    LoginResponse response = authService.login(loginRequest());
+    statistics.clear();
+
+    String accessToken = authService.refreshAccessToken(response.getRefreshToken());
+
+    // 세션과 사용자를 조인한 프로젝션 조회 한 번만 실행되고 엔티티는 로드되지 않는다.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    assertThat(jwtTokenProvider.verify(accessToken).getUserId()).isEqualTo(user.getId());
+  }
+
+  @Test
+  void loginRecordsPhaseTimings() {
+    authService.login(loginRequest());
+
+    for (String phase : new String[] {"user_lookup", "password_check", "sign", "session_write"}) {
+      assertThat(meterRegistry.get(AuthMetrics.PHASE_TIMER)
+          .tag("operation", "login").tag("phase", phase).timer().count())
+          .as(phase).isPositive();
+    }
+  }
+
+  @Test
+  void lastLoginAtIsWrittenOnFlush() {
+    authService.login(loginRequest());
+    assertThat(lastLoginAt()).isNull();
+
+    loginBookkeepingBuffer.flush();
+
+    assertThat(loginBookkeepingBuffer.pendingCount()).isZero();
+    assertThat(lastLoginAt()).isNotNull();
+  }
+
+  @Test
+  void savingUserEvictsCachedLookups() {
+    assertThat(userRepository.findSummaryByEmail("login@schedulebob.com")).isPresent();
+
+    user.setEmail("changed@schedulebob.com");
+    userRepository.save(user);
+
+    assertThat(userRepository.findSummaryByEmail("login@schedulebob.com")).isEmpty();
+    assertThat(userRepository.findSummaryByEmail("changed@schedulebob.com")).isPresent();
+  }
+
+  private Timestamp lastLoginAt() {
+    return jdbcTemplate.queryForObject(
+        "SELECT last_login_at FROM users WHERE id = ?", Timestamp.class, user.getId());
+  }
+
+  private LoginRequest loginRequest() {
+    LoginRequest request = new LoginRequest();
+    request.setEmail("login@schedulebob.com");
+    request.setPassword("password1234");
+    return request;
+  }
+
+  @TestConfiguration
+  static class PasswordCheckRecorderConfig {
+
+    @Bean
+    static BeanPostProcessor passwordCheckRecorder() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof PasswordEncoder encoder)) {
+            return bean;
+          }
+          return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+              return encoder.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+              PASSWORD_CHECK_IN_TRANSACTION.add(TransactionSynchronizationManager.isActualTransactionActive());
+              return encoder.matches(rawPassword, encodedPassword);
+            }
+          };
+        }
+      };
+    }
+  }
+}
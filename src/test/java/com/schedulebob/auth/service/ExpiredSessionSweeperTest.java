@@ -0,0 +1,55 @@
+package com.schedulebob.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.schedulebob.auth.entity.UserSessions;
+import com.schedulebob.auth.repository.UserSessionsRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = {
+    "auth.session-sweeper.chunk-size=2",
+    "auth.session-sweeper.pause-ms=0"
+})
+@ActiveProfiles("test")
+class ExpiredSessionSweeperTest {
+
+  @Autowired
+  private ExpiredSessionSweeper sweeper;
+
+  @Autowired
+  private UserSessionsRepository userSessionsRepository;
+
+  @AfterEach
+  void tearDown() {
+    userSessionsRepository.deleteAll();
+  }
+
+  @Test
+  void deletesExpiredSessionsInChunksAndKeepsLiveOnes() {
+    LocalDateTime now = LocalDateTime.now();
+    for (long userId = 1; userId <= 5; userId++) {
+      saveSession(userId, now.minusDays(1));
+    }
+    saveSession(6L, now.plusDays(1));
+
+    assertThat(sweeper.sweep()).isEqualTo(5);
+    assertThat(sweeper.lastRunPurged()).isEqualTo(5);
+    assertThat(userSessionsRepository.findAll())
+        .extracting(UserSessions::getUserId)
+        .containsExactly(6L);
+  }
+
+  private void saveSession(Long userId, LocalDateTime expiredAt) {
+    UserSessions session = new UserSessions();
+    session.setUserId(userId);
+    session.setRefreshTokenHash(String.format("%064d", userId));
+    session.setIssuedAt(expiredAt.minusDays(14));
+    session.setExpiredAt(expiredAt);
+    userSessionsRepository.save(session);
+  }
+}
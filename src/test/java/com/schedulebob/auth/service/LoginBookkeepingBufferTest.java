@@ -0,0 +1,95 @@
+package com.schedulebob.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * 반영 실패 시 바로 재시도하지 않고 주기 플러시로 미루며, 재시도 횟수와 버퍼 크기를 넘는 항목은 버리는지 검증하는 테스트.
+ */
+class LoginBookkeepingBufferTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+  @Test
+  void failedBatchWaitsForTheNextIntervalInsteadOfRetryingImmediately() {
+    LoginBookkeepingBuffer buffer = buffer(2, 100, 5);
+    failWrites();
+    buffer.recordLogin(1L, NOW);
+    buffer.recordLogin(2L, NOW);
+    verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+    buffer.flush();
+    buffer.recordLogin(3L, NOW);
+
+    // 항목은 되돌아왔지만 임계치 플러시는 다시 예약되지 않는다.
+    assertThat(buffer.pendingCount()).isEqualTo(3);
+    verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @Test
+  void rowsAreDroppedAfterMaxRetries() {
+    LoginBookkeepingBuffer buffer = buffer(100, 100, 2);
+    failWrites();
+    buffer.recordLogin(1L, NOW);
+
+    buffer.flush();
+    buffer.flush();
+    assertThat(buffer.pendingCount()).isEqualTo(1);
+
+    buffer.flush();
+    assertThat(buffer.pendingCount()).isZero();
+    assertThat(buffer.droppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void fullBufferDropsNewUsersButKeepsUpdatingPendingOnes() {
+    LoginBookkeepingBuffer buffer = buffer(100, 2, 5);
+    buffer.recordLogin(1L, NOW);
+    buffer.recordLogin(2L, NOW);
+    buffer.recordLogin(3L, NOW);
+    buffer.recordLogin(1L, NOW.plusMinutes(1));
+
+    assertThat(buffer.pendingCount()).isEqualTo(2);
+    assertThat(buffer.droppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shutdownFlushDoesNotRetry() {
+    LoginBookkeepingBuffer buffer = buffer(100, 100, 5);
+    failWrites();
+    buffer.recordLogin(1L, NOW);
+
+    buffer.shutdown();
+
+    assertThat(buffer.pendingCount()).isZero();
+    assertThat(buffer.droppedCount()).isEqualTo(1);
+    verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  private LoginBookkeepingBuffer buffer(int flushThreshold, int maxPending, int maxRetries) {
+    return new LoginBookkeepingBuffer(jdbcTemplate, taskScheduler, new SimpleMeterRegistry(),
+        flushThreshold, maxPending, maxRetries);
+  }
+
+  private void failWrites() {
+    when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+        .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+  }
+}
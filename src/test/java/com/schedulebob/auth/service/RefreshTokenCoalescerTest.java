@@ -0,0 +1,122 @@
+package com.schedulebob.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.schedulebob.auth.event.SessionEndedEvent;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.global.util.TokenDigests;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RefreshTokenCoalescerTest {
+
+  @Test
+  void concurrentRefreshesShareOneComputation() throws Exception {
+    AuthService authService = mock(AuthService.class);
+    CountDownLatch release = new CountDownLatch(1);
+    when(authService.refreshAccessToken("refresh")).thenAnswer(invocation -> {
+      release.await();
+      return "access";
+    });
+    RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(authService, 5000);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> coalescer.refresh("refresh")));
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      for (Future<String> result : results) {
+        assertThat(result.get()).isEqualTo("access");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // 유예 시간 안의 요청도 결과를 재사용한다.
+    assertThat(coalescer.refresh("refresh")).isEqualTo("access");
+    verify(authService, times(1)).refreshAccessToken("refresh");
+  }
+
+  @Test
+  void leaderErrorReleasesFollowersAndIsNotReused() throws Exception {
+    AuthService authService = mock(AuthService.class);
+    CountDownLatch release = new CountDownLatch(1);
+    when(authService.refreshAccessToken("refresh"))
+        .thenAnswer(invocation -> {
+          release.await();
+          throw new AssertionError("boom");
+        })
+        .thenReturn("access");
+    RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(authService, 5000);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> leader = executor.submit(() -> coalescer.refresh("refresh"));
+      Thread.sleep(50);
+      Future<String> follower = executor.submit(() -> coalescer.refresh("refresh"));
+      Thread.sleep(50);
+      release.countDown();
+
+      assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+      assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(AssertionError.class);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // 실패한 결과는 남지 않으므로 다음 요청은 새로 계산한다.
+    assertThat(coalescer.refresh("refresh")).isEqualTo("access");
+  }
+
+  @Test
+  void followerGivesUpAfterWaitTimeout() throws Exception {
+    AuthService authService = mock(AuthService.class);
+    CountDownLatch release = new CountDownLatch(1);
+    when(authService.refreshAccessToken("refresh")).thenAnswer(invocation -> {
+      release.await();
+      return "access";
+    });
+    RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(authService, 5000, 100);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(() -> coalescer.refresh("refresh"));
+      Thread.sleep(50);
+
+      assertThatThrownBy(() -> coalescer.refresh("refresh")).isInstanceOf(CustomException.class);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void endedSessionDropsReusableResult() {
+    AuthService authService = mock(AuthService.class);
+    when(authService.refreshAccessToken("refresh"))
+        .thenReturn("access")
+        .thenThrow(new CustomException("세션이 만료되었습니다."));
+    RefreshTokenCoalescer coalescer = new RefreshTokenCoalescer(authService, 5000);
+    assertThat(coalescer.refresh("refresh")).isEqualTo("access");
+
+    coalescer.onSessionEnded(new SessionEndedEvent(1L, TokenDigests.sha256Hex("refresh")));
+
+    // 유예 시간 안이라도 로그아웃 전 결과를 돌려주지 않고 세션을 다시 확인한다.
+    assertThatThrownBy(() -> coalescer.refresh("refresh")).isInstanceOf(CustomException.class);
+    verify(authService, times(2)).refreshAccessToken("refresh");
+  }
+}
@@ -0,0 +1,57 @@
+package com.schedulebob.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.auth.config.JwtTokenProvider;
+import com.schedulebob.auth.repository.RevokedTokenRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationListTest {
+
+  private final TokenRevocationList revocationList =
+      new TokenRevocationList(mock(RevokedTokenRepository.class), new JwtTokenProvider(), 1000);
+
+  @Test
+  void revokedTokenIdIsRejectedAndOthersPass() {
+    JwtPrincipal revoked = principal("jti-1", "a@schedulebob.com", Instant.now());
+    JwtPrincipal other = principal("jti-2", "a@schedulebob.com", Instant.now());
+
+    revocationList.revokeToken(revoked);
+
+    assertThat(revocationList.isRevoked(revoked)).isTrue();
+    assertThat(revocationList.isRevoked(other)).isFalse();
+  }
+
+  @Test
+  void subjectRevocationRejectsTokensIssuedBeforeCutoff() {
+    JwtPrincipal before = principal("jti-3", "b@schedulebob.com", Instant.now());
+
+    revocationList.revokeSubject("b@schedulebob.com");
+
+    JwtPrincipal after = principal("jti-4", "b@schedulebob.com",
+        Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(2));
+    assertThat(revocationList.isRevoked(before)).isTrue();
+    assertThat(revocationList.isRevoked(after)).isFalse();
+    assertThat(revocationList.isRevoked(principal("jti-5", "c@schedulebob.com", Instant.now())))
+        .isFalse();
+  }
+
+  @Test
+  void expiredEntriesArePurged() {
+    JwtPrincipal expired = new JwtPrincipal("jti-6", 4L, "d@schedulebob.com", "employee",
+        Instant.now().minusSeconds(60), Instant.now().minusSeconds(1));
+
+    revocationList.revokeToken(expired);
+    revocationList.purgeExpired();
+
+    assertThat(revocationList.size()).isZero();
+  }
+
+  private JwtPrincipal principal(String tokenId, String subject, Instant issuedAt) {
+    return new JwtPrincipal(tokenId, 1L, subject, "employee", issuedAt, issuedAt.plusSeconds(1800));
+  }
+}
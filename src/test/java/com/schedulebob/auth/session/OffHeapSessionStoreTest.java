@@ -0,0 +1,107 @@
+package com.schedulebob.auth.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.global.util.TokenDigests;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OffHeapSessionStoreTest {
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+  @Test
+  void findsSessionsByUserIdAndDigest() {
+    OffHeapSessionStore store = new OffHeapSessionStore(userRepository, 16, "");
+
+    store.upsert(session(1L, "a", now.plusDays(14)));
+    store.upsert(session(1L, "b", now.plusDays(14)));
+
+    assertThat(store.size()).isEqualTo(1);
+    assertThat(store.findByRefreshTokenHash(hash("a"))).isEmpty();
+    assertThat(store.findByRefreshTokenHash(hash("b")))
+        .get().extracting(SessionRecord::getUserId).isEqualTo(1L);
+    assertThat(store.findByUserId(1L))
+        .get().extracting(SessionRecord::getExpiredAt).isEqualTo(now.plusDays(14));
+
+    store.deleteByUserId(1L);
+    assertThat(store.findByUserId(1L)).isEmpty();
+    assertThat(store.findByRefreshTokenHash(hash("b"))).isEmpty();
+  }
+
+  @Test
+  void growsBeyondInitialCapacity() {
+    OffHeapSessionStore store = new OffHeapSessionStore(userRepository, 16, "");
+
+    for (long userId = 1; userId <= 10_000; userId++) {
+      store.upsert(session(userId, "t" + userId, now.plusDays(1)));
+    }
+
+    assertThat(store.size()).isEqualTo(10_000);
+    for (long userId = 1; userId <= 10_000; userId += 997) {
+      assertThat(store.findByRefreshTokenHash(hash("t" + userId)))
+          .get().extracting(SessionRecord::getUserId).isEqualTo(userId);
+    }
+  }
+
+  @Test
+  void deletesExpiredSessionsUpToLimit() {
+    OffHeapSessionStore store = new OffHeapSessionStore(userRepository, 16, "");
+    for (long userId = 1; userId <= 5; userId++) {
+      store.upsert(session(userId, "t" + userId, now.minusDays(1)));
+    }
+    store.upsert(session(6L, "live", now.plusDays(1)));
+
+    assertThat(store.deleteExpired(now, 3)).isEqualTo(3);
+    assertThat(store.deleteExpired(now, 3)).isEqualTo(2);
+    assertThat(store.size()).isEqualTo(1);
+  }
+
+  @Test
+  void chunkedSweepResumesWhereThePreviousChunkStopped() {
+    OffHeapSessionStore store = new OffHeapSessionStore(userRepository, 16384, "");
+    for (long userId = 1; userId <= 10000; userId++) {
+      store.upsert(session(userId, "t" + userId, userId % 10 == 0 ? now.plusDays(1) : now.minusDays(1)));
+    }
+
+    // 잠금 구간(4096 슬롯)을 넘어서도 이어서 훑고, 한 바퀴를 다 돌면 limit보다 적게 반환한다.
+    int total = 0;
+    int deleted;
+    do {
+      deleted = store.deleteExpired(now, 500);
+      total += deleted;
+    } while (deleted == 500);
+
+    assertThat(total).isEqualTo(9000);
+    assertThat(store.size()).isEqualTo(1000);
+    assertThat(store.deleteExpired(now, 500)).isZero();
+  }
+
+  @Test
+  void restoresLiveSessionsFromSnapshot(@TempDir Path dir) {
+    String path = dir.resolve("sessions.bin").toString();
+    OffHeapSessionStore store = new OffHeapSessionStore(userRepository, 16, path);
+    store.upsert(session(1L, "live", now.plusDays(1)));
+    store.upsert(session(2L, "expired", now.minusDays(1)));
+    store.shutdown();
+
+    OffHeapSessionStore restored = new OffHeapSessionStore(userRepository, 16, path);
+    restored.restore();
+
+    assertThat(restored.size()).isEqualTo(1);
+    assertThat(restored.findByRefreshTokenHash(hash("live"))).isPresent();
+  }
+
+  private SessionRecord session(Long userId, String token, LocalDateTime expiredAt) {
+    return new SessionRecord(userId, hash(token), expiredAt.minusDays(14), expiredAt);
+  }
+
+  private String hash(String token) {
+    return TokenDigests.sha256Hex(token);
+  }
+}
@@ -0,0 +1,75 @@
+package com.schedulebob.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.schedulebob.auth.entity.User;
+import com.schedulebob.auth.repository.UserRepository;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * virtual 프로파일에서 작업 실행기와 사용자 캐시가 가상 스레드 기준으로 구성되는지 검증하는 테스트.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "virtual"})
+class VirtualThreadModeTest {
+
+  @Autowired
+  private AsyncTaskExecutor applicationTaskExecutor;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @AfterEach
+  void tearDown() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void taskExecutorRunsOnVirtualThreads() throws Exception {
+    CompletableFuture<Boolean> virtual =
+        applicationTaskExecutor.submitCompletable(() -> Thread.currentThread().isVirtual());
+
+    assertThat(virtual.get()).isTrue();
+  }
+
+  @Test
+  void userCacheLoadsOutsideTheMapLock() {
+    User user = new User();
+    user.setEmail("virtual@schedulebob.com");
+    user.setName("홍길동");
+    user.setRole("employee");
+    userRepository.save(user);
+
+    // 잠금 안에서는 Future만 등록하고 로더는 호출 스레드에서 실행하므로 캐리어 스레드가 고정되지 않는다.
+    assertThat(cacheManager).isInstanceOf(VirtualThreadCaffeineCacheManager.class);
+    CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+    assertThat(cache.getAsyncCache()).isNotNull();
+
+    assertThat(userRepository.findSummaryByEmail("virtual@schedulebob.com")).isPresent();
+    assertThat(userRepository.findSummaryByEmail("virtual@schedulebob.com")).isPresent();
+    assertThat(cache.getNativeCache().stats().hitCount()).isPositive();
+  }
+
+  @Test
+  void cacheLoaderRunsOnCallerThread() {
+    Thread caller = Thread.currentThread();
+    CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+
+    // 로더가 다른 스레드에서 돌면 호출 측 트랜잭션의 커넥션을 쓰지 못해 커넥션 풀이 교착될 수 있다.
+    Thread loader = cache.get("loader@schedulebob.com", Thread::currentThread);
+
+    assertThat(loader).isSameAs(caller);
+    cache.evict("loader@schedulebob.com");
+  }
+}
@@ -0,0 +1,44 @@
+package com.schedulebob.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StripedRateLimiterTest {
+
+  @Test
+  void rejectsRequestsBeyondCapacityPerKey() {
+    StripedRateLimiter limiter = new StripedRateLimiter(3, 1, TimeUnit.HOURS, 1000);
+
+    assertThat(limiter.tryAcquire("a")).isTrue();
+    assertThat(limiter.tryAcquire("a")).isTrue();
+    assertThat(limiter.tryAcquire("a")).isTrue();
+    assertThat(limiter.tryAcquire("a")).isFalse();
+
+    assertThat(limiter.tryAcquire("b")).isTrue();
+  }
+
+  @Test
+  void keepsTrackedKeysBounded() {
+    StripedRateLimiter limiter = new StripedRateLimiter(1, 1, TimeUnit.HOURS, 128);
+
+    for (int i = 0; i < 10_000; i++) {
+      limiter.tryAcquire("key-" + i);
+    }
+
+    assertThat(limiter.size()).isLessThanOrEqualTo(128);
+  }
+
+  @Test
+  void evictIdleRemovesRefilledBuckets() throws InterruptedException {
+    StripedRateLimiter limiter = new StripedRateLimiter(1, 20, TimeUnit.MILLISECONDS, 1000);
+    limiter.tryAcquire("a");
+    limiter.tryAcquire("b");
+
+    Thread.sleep(50);
+
+    assertThat(limiter.evictIdle()).isEqualTo(2);
+    assertThat(limiter.size()).isZero();
+  }
+}
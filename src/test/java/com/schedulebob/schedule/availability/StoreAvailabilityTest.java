@@ -0,0 +1,74 @@
+package com.schedulebob.schedule.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+class StoreAvailabilityTest {
+
+  private static final WeeklyAvailability MONDAY_DAYTIME =
+      WeeklyAvailability.empty().with(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+  @Test
+  void bitmapRoundTripsThroughBytes() {
+    WeeklyAvailability availability = MONDAY_DAYTIME
+        .with(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.MIDNIGHT);
+
+    byte[] bytes = availability.toBytes();
+
+    assertThat(bytes).hasSize(WeeklyAvailability.BYTES);
+    assertThat(WeeklyAvailability.fromBytes(bytes)).isEqualTo(availability);
+    assertThat(availability.isAvailable(WeeklyAvailability.SLOTS - 1)).isTrue();
+  }
+
+  @Test
+  void findsWorkersAvailableForTheWholeShift() {
+    StoreAvailability store = StoreAvailability.empty();
+    // 직원 200명: 짝수 ID는 월요일 9~18시, 홀수 ID는 월요일 12~18시
+    for (long userId = 1; userId <= 200; userId++) {
+      WeeklyAvailability availability = userId % 2 == 0
+          ? MONDAY_DAYTIME
+          : WeeklyAvailability.empty().with(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(18, 0));
+      store = store.with(userId, availability);
+    }
+
+    LocalDateTime monday = LocalDateTime.of(2026, 3, 2, 0, 0);
+    int morning = WeeklyAvailability.slotOf(monday.withHour(9));
+    int afternoon = WeeklyAvailability.slotOf(monday.withHour(13));
+
+    assertThat(store.findAvailable(morning, 4 * 4)).hasSize(100).allMatch(id -> id % 2 == 0);
+    assertThat(store.countAvailable(afternoon, 4 * 4)).isEqualTo(200);
+    assertThat(store.countAvailable(afternoon, 4 * 6)).isZero();
+  }
+
+  @Test
+  void appliesIncrementalUpdatesWithoutTouchingOthers() {
+    StoreAvailability store = StoreAvailability.empty()
+        .with(1, MONDAY_DAYTIME)
+        .with(2, MONDAY_DAYTIME);
+    int slot = WeeklyAvailability.slotOf(LocalDateTime.of(2026, 3, 2, 10, 0));
+
+    StoreAvailability updated = store.with(1, WeeklyAvailability.empty());
+
+    assertThat(updated.findAvailable(slot, 4)).containsExactly(2L);
+    assertThat(store.findAvailable(slot, 4)).containsExactly(1L, 2L);
+    assertThat(updated.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shiftCrossingTheWeekBoundaryWrapsToMonday() {
+    WeeklyAvailability overnight = WeeklyAvailability.empty()
+        .with(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.MIDNIGHT)
+        .with(DayOfWeek.MONDAY, LocalTime.MIDNIGHT, LocalTime.of(6, 0));
+    StoreAvailability store = StoreAvailability.empty()
+        .with(1, overnight)
+        .with(2, MONDAY_DAYTIME);
+
+    int sunday10pm = WeeklyAvailability.slotOf(LocalDateTime.of(2026, 3, 8, 22, 0));
+
+    assertThat(store.findAvailable(sunday10pm, 4 * 8)).containsExactly(1L);
+  }
+}
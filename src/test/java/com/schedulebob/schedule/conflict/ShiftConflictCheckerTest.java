@@ -0,0 +1,75 @@
+package com.schedulebob.schedule.conflict;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class ShiftConflictCheckerTest {
+
+  private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+  @Test
+  void detectsOverlapWithExistingShift() {
+    ShiftConflictChecker checker = new ShiftConflictChecker(Duration.ofHours(11));
+    checker.add(1, 7L, MONDAY_9AM, MONDAY_9AM.plusHours(8));
+
+    assertThat(checker.tryAssign(7L, MONDAY_9AM.plusHours(4), MONDAY_9AM.plusHours(10)))
+        .hasValueSatisfying(conflict -> {
+          assertThat(conflict.getType()).isEqualTo(ShiftConflict.Type.OVERLAP);
+          assertThat(conflict.getConflictingStartAt()).isEqualTo(MONDAY_9AM);
+        });
+    // 다른 근무자에게는 영향이 없다.
+    assertThat(checker.tryAssign(8L, MONDAY_9AM, MONDAY_9AM.plusHours(8))).isEmpty();
+  }
+
+  @Test
+  void detectsInsufficientRestBetweenShifts() {
+    ShiftConflictChecker checker = new ShiftConflictChecker(Duration.ofHours(11));
+    checker.add(1, 7L, MONDAY_9AM, MONDAY_9AM.plusHours(8));
+
+    // 17시 종료 후 다음 날 3시 시작: 휴식 10시간
+    assertThat(checker.tryAssign(7L, MONDAY_9AM.plusHours(18), MONDAY_9AM.plusHours(22)))
+        .hasValueSatisfying(conflict ->
+            assertThat(conflict.getType()).isEqualTo(ShiftConflict.Type.INSUFFICIENT_REST));
+    // 다음 날 4시 시작: 휴식 11시간
+    assertThat(checker.tryAssign(7L, MONDAY_9AM.plusHours(19), MONDAY_9AM.plusHours(23))).isEmpty();
+  }
+
+  @Test
+  void checksAssignmentsWithinTheSameBatchAgainstEachOther() {
+    ShiftConflictChecker checker = new ShiftConflictChecker(Duration.ZERO);
+
+    assertThat(checker.tryAssign(7L, MONDAY_9AM, MONDAY_9AM.plusHours(8))).isEmpty();
+    assertThat(checker.tryAssign(7L, MONDAY_9AM, MONDAY_9AM.plusHours(8))).isPresent();
+  }
+
+  @Test
+  void removedShiftNoLongerConflicts() {
+    ShiftConflictChecker checker = new ShiftConflictChecker(Duration.ofHours(11));
+    checker.add(1, 7L, MONDAY_9AM, MONDAY_9AM.plusHours(8));
+
+    assertThat(checker.remove(1, 7L, MONDAY_9AM)).isTrue();
+    assertThat(checker.tryAssign(7L, MONDAY_9AM.plusHours(2), MONDAY_9AM.plusHours(6))).isEmpty();
+  }
+
+  @Test
+  void validatesAMonthForFiftyWorkers() {
+    ShiftConflictChecker checker = new ShiftConflictChecker(Duration.ofHours(11));
+    LocalDate first = LocalDate.of(2026, 3, 1);
+
+    int conflicts = 0;
+    for (long userId = 1; userId <= 50; userId++) {
+      for (int day = 0; day < 31; day++) {
+        LocalDateTime start = first.plusDays(day).atTime(9, 0);
+        conflicts += checker.tryAssign(userId, start, start.plusHours(8)).isPresent() ? 1 : 0;
+        // 같은 날 저녁 근무를 한 번 더 넣으면 휴식 부족으로 거절된다.
+        conflicts += checker.tryAssign(userId, start.plusHours(10), start.plusHours(14)).isPresent() ? 1 : 0;
+      }
+    }
+
+    assertThat(conflicts).isEqualTo(50 * 31);
+  }
+}
@@ -0,0 +1,55 @@
+package com.schedulebob.schedule.conflict;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ShiftIntervalTreeTest {
+
+  @Test
+  void findsOverlapsLikeBruteForce() {
+    SplittableRandom random = new SplittableRandom(42);
+    ShiftIntervalTree tree = new ShiftIntervalTree();
+    List<long[]> stored = new ArrayList<>();
+
+    for (long id = 1; id <= 2000; id++) {
+      long start = random.nextLong(0, 100_000);
+      long end = start + random.nextLong(1, 600);
+      tree.insert(id, start, end);
+      stored.add(new long[] {id, start, end});
+
+      // 일부 구간은 다시 지워 삭제 후에도 최대 종료 시각이 올바르게 유지되는지 확인한다.
+      if (random.nextInt(4) == 0) {
+        long[] removed = stored.remove(random.nextInt(stored.size()));
+        assertThat(tree.remove(removed[0], removed[1])).isTrue();
+      }
+    }
+    assertThat(tree.size()).isEqualTo(stored.size());
+
+    for (int i = 0; i < 5000; i++) {
+      long start = random.nextLong(0, 100_000);
+      long end = start + random.nextLong(1, 300);
+      boolean expected = stored.stream().anyMatch(s -> s[1] < end && s[2] > start);
+
+      ShiftIntervalTree.Interval found = tree.findOverlap(start, end);
+      assertThat(found != null).isEqualTo(expected);
+      if (found != null) {
+        assertThat(found.start() < end && found.end() > start).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void touchingIntervalsDoNotOverlap() {
+    ShiftIntervalTree tree = new ShiftIntervalTree();
+    tree.insert(1, 540, 1080);
+
+    assertThat(tree.findOverlap(1080, 1200)).isNull();
+    assertThat(tree.findOverlap(420, 540)).isNull();
+    assertThat(tree.findOverlap(1079, 1200)).isNotNull();
+    assertThat(tree.remove(2, 540)).isFalse();
+  }
+}
@@ -0,0 +1,180 @@
+package com.schedulebob.schedule.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.schedulebob.auth.config.JwtTokenProvider;
+import com.schedulebob.auth.entity.User;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.schedule.dto.ShiftRequest;
+import com.schedulebob.schedule.repository.ShiftRepository;
+import com.schedulebob.schedule.service.ShiftService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 매장 주간 근무표가 ETag로 재검증되고, 근무 변경 후에도 DB 조회 없이 갱신된 문서를 내려주는지 검증하는 테스트.
+ * 근무 변경이 같은 매장의 SSE 구독자에게만 전달되는지도 함께 검증한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StoreScheduleControllerTest {
+
+  private static final long STORE_ID = 30L;
+  private static final String WEEK_URL = "/api/stores/" + STORE_ID + "/weeks/2026-W10";
+  private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ShiftService shiftService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ShiftRepository shiftRepository;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private User employee;
+  private String bearer;
+
+  @BeforeEach
+  void setUp() {
+    employee = saveUser("week@schedulebob.com", STORE_ID);
+    bearer = "Bearer " + jwtTokenProvider.createAccessToken(employee.getId(), employee.getEmail(), "employee");
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    shiftRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void unchangedWeekAnswers304WithoutDatabaseWork() throws Exception {
+    shiftService.create(new ShiftRequest(employee.getId(), MONDAY_9AM, MONDAY_9AM.plusHours(8)));
+
+    String etag = mockMvc.perform(get(WEEK_URL).header(HttpHeaders.AUTHORIZATION, bearer))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.week").value("2026-W10"))
+        .andExpect(jsonPath("$.shifts.length()").value(1))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    statistics.clear();
+
+    mockMvc.perform(get(WEEK_URL).header(HttpHeaders.AUTHORIZATION, bearer)
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().bytes(new byte[0]));
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+
+    // 근무가 추가되면 캐시된 문서에 변경분만 반영되어, 다시 적재하지 않고 새 ETag로 응답한다.
+    shiftService.create(new ShiftRequest(employee.getId(), MONDAY_9AM.plusDays(1), MONDAY_9AM.plusDays(1).plusHours(8)));
+    statistics.clear();
+
+    String newEtag = mockMvc.perform(get(WEEK_URL).header(HttpHeaders.AUTHORIZATION, bearer)
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.shifts.length()").value(2))
+        .andExpect(jsonPath("$.shifts[1].name").value("직원"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertThat(newEtag).isNotEqualTo(etag);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  void movedEmployeeLeavesCachedWeekOfPreviousStore() throws Exception {
+    User colleague = saveUser("colleague@schedulebob.com", STORE_ID);
+    String colleagueBearer = "Bearer " + jwtTokenProvider.createAccessToken(
+        colleague.getId(), colleague.getEmail(), "employee");
+    shiftService.create(new ShiftRequest(employee.getId(), MONDAY_9AM, MONDAY_9AM.plusHours(8)));
+
+    mockMvc.perform(get(WEEK_URL).header(HttpHeaders.AUTHORIZATION, colleagueBearer))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.shifts.length()").value(1));
+
+    // 매장 이동은 근무 변경 이벤트가 없으므로, 매장 변경 이벤트로 캐시된 문서를 버리고 다시 만든다.
+    User moved = userRepository.findById(employee.getId()).orElseThrow();
+    moved.setStoreId(STORE_ID + 1);
+    userRepository.save(moved);
+
+    mockMvc.perform(get(WEEK_URL).header(HttpHeaders.AUTHORIZATION, colleagueBearer))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.shifts.length()").value(0));
+  }
+
+  @Test
+  void otherStoresEmployeesAreForbidden() throws Exception {
+    User outsider = saveUser("outsider@schedulebob.com", STORE_ID + 1);
+    String token = jwtTokenProvider.createAccessToken(outsider.getId(), outsider.getEmail(), "employee");
+
+    mockMvc.perform(get(WEEK_URL).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void shiftChangesStreamToSubscribersOfTheSameStore() throws Exception {
+    User outsider = saveUser("outsider@schedulebob.com", STORE_ID + 1);
+    String outsiderBearer = "Bearer " + jwtTokenProvider.createAccessToken(
+        outsider.getId(), outsider.getEmail(), "employee");
+
+    MockHttpServletResponse member = mockMvc.perform(get("/api/stores/" + STORE_ID + "/shift-events")
+            .header(HttpHeaders.AUTHORIZATION, bearer))
+        .andExpect(request().asyncStarted())
+        .andReturn().getResponse();
+    MockHttpServletResponse otherStore = mockMvc.perform(get("/api/stores/" + (STORE_ID + 1) + "/shift-events")
+            .header(HttpHeaders.AUTHORIZATION, outsiderBearer))
+        .andExpect(request().asyncStarted())
+        .andReturn().getResponse();
+
+    Long shiftId = shiftService.create(
+        new ShiftRequest(employee.getId(), MONDAY_9AM, MONDAY_9AM.plusHours(8))).getId();
+
+    String stream = awaitContent(member, "event:shift-changed");
+    assertThat(stream).contains("\"type\":\"CREATED\"").contains("\"id\":" + shiftId);
+    assertThat(otherStore.getContentAsString()).doesNotContain("shift-changed");
+  }
+
+  private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!response.getContentAsString().contains(expected) && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    return response.getContentAsString();
+  }
+
+  private User saveUser(String email, Long storeId) {
+    User user = new User();
+    user.setEmail(email);
+    user.setName("직원");
+    user.setRole("employee");
+    user.setStoreId(storeId);
+    return userRepository.save(user);
+  }
+}
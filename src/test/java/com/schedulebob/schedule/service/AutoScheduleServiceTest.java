@@ -0,0 +1,144 @@
+package com.schedulebob.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.schedulebob.auth.entity.User;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.schedule.dto.AutoScheduleRequest;
+import com.schedulebob.schedule.dto.AutoScheduleResponse;
+import com.schedulebob.schedule.dto.AvailabilityRange;
+import com.schedulebob.schedule.dto.AvailabilityRequest;
+import com.schedulebob.schedule.dto.OpenShiftRequest;
+import com.schedulebob.schedule.dto.ShiftRequest;
+import com.schedulebob.schedule.repository.ShiftRepository;
+import com.schedulebob.schedule.repository.WorkerAvailabilityRepository;
+import com.schedulebob.schedule.solver.AutoScheduler;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+/**
+ * 근무 가능 시간, 기존 근무, 주간 최대 근무 시간을 반영해 자동 배정하고 저장하는지 검증하는 테스트.
+ * 동시에 실행할 수 있는 탐색 수를 넘는 요청이 거절되는지도 함께 검증한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AutoScheduleServiceTest {
+
+  private static final long STORE_ID = 20L;
+  private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+  @Autowired
+  private AutoScheduleService autoScheduleService;
+
+  @Autowired
+  private AvailabilityService availabilityService;
+
+  @Autowired
+  private ShiftService shiftService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ShiftRepository shiftRepository;
+
+  @Autowired
+  private WorkerAvailabilityRepository workerAvailabilityRepository;
+
+  @MockitoSpyBean
+  private AutoScheduler autoScheduler;
+
+  @AfterEach
+  void tearDown() {
+    shiftRepository.deleteAll();
+    workerAvailabilityRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void assignsOpenShiftsAroundExistingShiftsAndHourCaps() {
+    Long alice = saveEmployee("alice@schedulebob.com", 16);
+    Long bob = saveEmployee("bob@schedulebob.com", null);
+    // 화요일 아침 근무가 이미 있는 bob은 월요일 저녁 근무를 맡으면 휴식 시간이 부족하다.
+    shiftService.create(new ShiftRequest(bob, MONDAY.plusDays(1).withHour(6), MONDAY.plusDays(1).withHour(14)));
+
+    AutoScheduleRequest request = new AutoScheduleRequest();
+    request.setShifts(List.of(
+        open(MONDAY.withHour(14)),
+        open(MONDAY.plusDays(2).withHour(9)),
+        open(MONDAY.plusDays(3).withHour(9))));
+    request.setSeed(3L);
+    request.setApply(true);
+
+    AutoScheduleResponse response = autoScheduleService.schedule(STORE_ID, request);
+
+    // alice는 주 16시간 한도라 두 근무까지만 맡을 수 있다.
+    assertThat(response.getUnassignedCount()).isZero();
+    assertThat(response.getAssignments().get(0).getUserId()).isEqualTo(alice);
+    assertThat(response.getAssignments()).filteredOn(a -> alice.equals(a.getUserId())).hasSize(2);
+    assertThat(response.isApplied()).isTrue();
+    assertThat(shiftRepository.count()).isEqualTo(4);
+  }
+
+  @Test
+  void concurrentSolveIsRejectedWhileAnotherRuns() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      started.countDown();
+      release.await();
+      return invocation.callRealMethod();
+    }).when(autoScheduler).solve(any(), any());
+
+    AutoScheduleRequest request = new AutoScheduleRequest();
+    request.setShifts(List.of(open(MONDAY.withHour(9))));
+    CompletableFuture<AutoScheduleResponse> first =
+        CompletableFuture.supplyAsync(() -> autoScheduleService.schedule(STORE_ID, request));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // schedule.solver.max-concurrent 기본값(1)을 넘는 요청은 기다리지 않고 503으로 거절된다.
+    assertThatThrownBy(() -> autoScheduleService.schedule(STORE_ID, request))
+        .isInstanceOfSatisfying(CustomException.class,
+            e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+    release.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS).getUnassignedCount()).isEqualTo(1);
+  }
+
+  private Long saveEmployee(String email, Integer maxWeeklyHours) {
+    User user = new User();
+    user.setEmail(email);
+    user.setName("직원");
+    user.setRole("employee");
+    user.setStoreId(STORE_ID);
+    Long userId = userRepository.save(user).getId();
+
+    AvailabilityRequest availability = new AvailabilityRequest();
+    availability.setRanges(List.of(DayOfWeek.values()).stream()
+        .map(day -> new AvailabilityRange(day, LocalTime.of(6, 0), LocalTime.MIDNIGHT))
+        .toList());
+    availability.setMaxWeeklyHours(maxWeeklyHours);
+    availabilityService.update(userId, availability);
+    return userId;
+  }
+
+  private static OpenShiftRequest open(LocalDateTime startAt) {
+    return new OpenShiftRequest(startAt, startAt.plusHours(8));
+  }
+}
@@ -0,0 +1,117 @@
+package com.schedulebob.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.schedulebob.auth.entity.User;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.schedule.dto.AvailabilityRange;
+import com.schedulebob.schedule.dto.AvailabilityRequest;
+import com.schedulebob.schedule.repository.WorkerAvailabilityRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 근무 가능 시간이 비트맵 컬럼으로 저장되고, 매장 인덱스가 적재 후 변경분과 매장 이동을 반영하는지 검증하는 테스트.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AvailabilityServiceTest {
+
+  private static final long STORE_ID = 10L;
+  private static final long OTHER_STORE_ID = 20L;
+  private static final LocalDateTime MONDAY_10AM = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+  @Autowired
+  private AvailabilityService availabilityService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private WorkerAvailabilityRepository workerAvailabilityRepository;
+
+  @AfterEach
+  void tearDown() {
+    workerAvailabilityRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void indexReflectsAvailabilityChangesAfterFirstLoad() {
+    Long alice = saveEmployee("alice@schedulebob.com");
+    Long bob = saveEmployee("bob@schedulebob.com");
+    availabilityService.update(alice, request(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+    // 첫 조회에서 매장 인덱스를 DB로부터 적재한다.
+    assertThat(availabilityService.findAvailableWorkers(STORE_ID, MONDAY_10AM, MONDAY_10AM.plusHours(4)))
+        .containsExactly(alice);
+
+    // 이후 변경은 커밋 후 인덱스에 바로 반영된다.
+    availabilityService.update(bob, request(LocalTime.of(10, 0), LocalTime.of(14, 0)));
+    availabilityService.update(alice, request(LocalTime.of(15, 0), LocalTime.of(18, 0)));
+
+    assertThat(availabilityService.findAvailableWorkers(STORE_ID, MONDAY_10AM, MONDAY_10AM.plusHours(4)))
+        .containsExactly(bob);
+    assertThat(availabilityService.get(alice).getRanges())
+        .singleElement()
+        .satisfies(range -> assertThat(range.getFrom()).isEqualTo(LocalTime.of(15, 0)));
+  }
+
+  @Test
+  void movingEmployeeReloadsBothStoreIndexes() {
+    Long alice = saveEmployee("alice@schedulebob.com");
+    availabilityService.update(alice, request(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+    assertThat(availabilityService.findAvailableWorkers(STORE_ID, MONDAY_10AM, MONDAY_10AM.plusHours(4)))
+        .containsExactly(alice);
+    assertThat(availabilityService.findAvailableWorkers(OTHER_STORE_ID, MONDAY_10AM, MONDAY_10AM.plusHours(4)))
+        .isEmpty();
+
+    User user = userRepository.findById(alice).orElseThrow();
+    user.setStoreId(OTHER_STORE_ID);
+    userRepository.save(user);
+
+    // 매장 변경 이벤트로 두 매장의 스냅샷을 버리고 다음 조회에서 다시 적재한다.
+    assertThat(availabilityService.findAvailableWorkers(STORE_ID, MONDAY_10AM, MONDAY_10AM.plusHours(4)))
+        .isEmpty();
+    assertThat(availabilityService.findAvailableWorkers(OTHER_STORE_ID, MONDAY_10AM, MONDAY_10AM.plusHours(4)))
+        .containsExactly(alice);
+  }
+
+  @Test
+  void weeklyCapAboveTheDefaultIsRejected() {
+    Long alice = saveEmployee("alice@schedulebob.com");
+    AvailabilityRequest request = request(LocalTime.of(9, 0), LocalTime.of(18, 0));
+    request.setMaxWeeklyHours(53);
+
+    assertThatThrownBy(() -> availabilityService.update(alice, request))
+        .isInstanceOf(CustomException.class);
+
+    request.setMaxWeeklyHours(40);
+    assertThat(availabilityService.update(alice, request).getMaxWeeklyHours()).isEqualTo(40);
+  }
+
+  private Long saveEmployee(String email) {
+    User user = new User();
+    user.setEmail(email);
+    user.setName("직원");
+    user.setRole("employee");
+    user.setStoreId(STORE_ID);
+    return userRepository.save(user).getId();
+  }
+
+  private static AvailabilityRequest request(LocalTime from, LocalTime to) {
+    AvailabilityRequest request = new AvailabilityRequest();
+    request.setRanges(List.of(new AvailabilityRange(DayOfWeek.MONDAY, from, to)));
+    return request;
+  }
+}
@@ -0,0 +1,117 @@
+package com.schedulebob.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import com.schedulebob.auth.entity.User;
+import com.schedulebob.auth.repository.UserRepository;
+import com.schedulebob.global.exception.CustomException;
+import com.schedulebob.schedule.dto.ShiftRequest;
+import com.schedulebob.schedule.repository.ShiftRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 같은 근무자에 대한 동시 배정이 이중 배정을 만들지 않는지, 근무 조회가 본인/같은 매장/관리자로 제한되는지 검증하는 테스트.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ShiftServiceTest {
+
+  private static final long STORE_ID = 40L;
+  private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+  @Autowired
+  private ShiftService shiftService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ShiftRepository shiftRepository;
+
+  @AfterEach
+  void tearDown() {
+    shiftRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void concurrentCreatesForTheSameWorkerAdmitOnlyOne() throws Exception {
+    Long worker = saveUser("worker@schedulebob.com", STORE_ID).getId();
+    int requests = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(requests);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < requests; i++) {
+        // 서로 겹치는 근무를 시작 시각만 조금씩 달리해 동시에 배정한다.
+        LocalDateTime startAt = MONDAY_9AM.plusMinutes(i);
+        results.add(executor.submit(() -> {
+          start.await();
+          try {
+            shiftService.createAll(List.of(new ShiftRequest(worker, startAt, startAt.plusHours(8))));
+            return true;
+          } catch (CustomException e) {
+            assertThat(e.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+            return false;
+          }
+        }));
+      }
+      start.countDown();
+
+      int created = 0;
+      for (Future<Boolean> result : results) {
+        created += result.get() ? 1 : 0;
+      }
+      assertThat(created).isEqualTo(1);
+      assertThat(shiftRepository.count()).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shiftsAreVisibleOnlyToSelfColleaguesAndAdmins() {
+    User worker = saveUser("worker@schedulebob.com", STORE_ID);
+    User colleague = saveUser("colleague@schedulebob.com", STORE_ID);
+    User outsider = saveUser("outsider@schedulebob.com", STORE_ID + 1);
+    shiftService.create(new ShiftRequest(worker.getId(), MONDAY_9AM, MONDAY_9AM.plusHours(8)));
+    LocalDateTime from = MONDAY_9AM.minusDays(1);
+    LocalDateTime to = MONDAY_9AM.plusDays(1);
+
+    assertThat(shiftService.findShifts(principal(worker, "employee"), worker.getId(), from, to)).hasSize(1);
+    assertThat(shiftService.findShifts(principal(colleague, "employee"), worker.getId(), from, to)).hasSize(1);
+    assertThat(shiftService.findShifts(principal(outsider, "admin"), worker.getId(), from, to)).hasSize(1);
+    assertThatThrownBy(() -> shiftService.findShifts(principal(outsider, "employee"), worker.getId(), from, to))
+        .isInstanceOf(CustomException.class)
+        .extracting("status").isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  private static JwtPrincipal principal(User user, String role) {
+    Instant now = Instant.now();
+    return new JwtPrincipal("token", user.getId(), user.getEmail(), role, now, now.plusSeconds(600));
+  }
+
+  private User saveUser(String email, Long storeId) {
+    User user = new User();
+    user.setEmail(email);
+    user.setName("직원");
+    user.setRole("employee");
+    user.setStoreId(storeId);
+    return userRepository.save(user);
+  }
+}
@@ -0,0 +1,86 @@
+package com.schedulebob.schedule.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class AutoSchedulerTest {
+
+  private static final long HOUR = 60;
+  private static final long DAY = 24 * HOUR;
+  private static final long MIN_REST = 11 * HOUR;
+
+  private final AutoScheduler scheduler = new AutoScheduler(ForkJoinPool.commonPool());
+
+  @Test
+  void sameSeedReproducesTheSameAssignment() {
+    SchedulingProblem problem = week(6, 40 * HOUR);
+    SolverOptions options = new SolverOptions(7L, Duration.ofMinutes(1), 4, 50_000);
+
+    SolverResult first = scheduler.solve(problem, options);
+    SolverResult second = scheduler.solve(problem, options);
+
+    assertThat(second.getAssignees()).containsExactly(first.getAssignees());
+    assertThat(second.getScore()).isEqualTo(first.getScore());
+  }
+
+  @Test
+  void fillsAWeekWithinHourCapsAndRestRules() {
+    // 하루 3교대(6~14, 10~18, 14~22시) x 7일 = 168시간, 직원 5명 x 주 40시간 = 200시간
+    SchedulingProblem problem = week(5, 40 * HOUR);
+
+    SolverResult result = scheduler.solve(problem,
+        new SolverOptions(1L, Duration.ofMinutes(1), 4, 200_000));
+
+    assertThat(result.isComplete()).isTrue();
+    assertFeasible(problem, result.getAssignees());
+  }
+
+  @Test
+  void leavesShiftsWithoutCandidatesUnassigned() {
+    SchedulingProblem.Builder builder = SchedulingProblem.builder(MIN_REST);
+    int worker = builder.addWorker(40 * HOUR);
+    builder.addShift(6 * HOUR, 14 * HOUR, new int[] {worker});
+    builder.addShift(DAY + 6 * HOUR, DAY + 14 * HOUR, new int[0]);
+
+    SolverResult result = scheduler.solve(builder.build(),
+        new SolverOptions(1L, Duration.ofSeconds(10), 2, 1_000));
+
+    assertThat(result.getAssignees()).containsExactly(worker, -1);
+    assertThat(result.getUnassignedMinutes()).isEqualTo(8 * HOUR);
+  }
+
+  private static SchedulingProblem week(int workers, long capacity) {
+    SchedulingProblem.Builder builder = SchedulingProblem.builder(MIN_REST);
+    int[] everyone = IntStream.range(0, workers).map(i -> builder.addWorker(capacity)).toArray();
+    for (int day = 0; day < 7; day++) {
+      for (long start : new long[] {6 * HOUR, 10 * HOUR, 14 * HOUR}) {
+        builder.addShift(day * DAY + start, day * DAY + start + 8 * HOUR, everyone);
+      }
+    }
+    return builder.build();
+  }
+
+  private static void assertFeasible(SchedulingProblem problem, int[] assignees) {
+    long[] load = new long[problem.workerCount()];
+    for (int a = 0; a < problem.shiftCount(); a++) {
+      if (assignees[a] < 0) {
+        continue;
+      }
+      load[assignees[a]] += problem.duration(a);
+      for (int b = a + 1; b < problem.shiftCount(); b++) {
+        if (assignees[b] != assignees[a]) {
+          continue;
+        }
+        long gap = Math.max(problem.start[b] - problem.end[a], problem.start[a] - problem.end[b]);
+        assertThat(gap).as("shift %d and %d", a, b).isGreaterThanOrEqualTo(MIN_REST);
+      }
+    }
+    for (int worker = 0; worker < problem.workerCount(); worker++) {
+      assertThat(load[worker]).isLessThanOrEqualTo(problem.capacity[worker]);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.schedulebob.schedule.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.schedulebob.auth.config.JwtPrincipal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 매장 채널이 번호를 따로 매기고, Last-Event-ID 이후 이벤트를 이어 주거나 resync를 보내는지,
+ * 조건에 맞는 토큰의 연결만 닫는지 검증하는 테스트.
+ */
+class ShiftEventChannelTest {
+
+  private static final JwtPrincipal PRINCIPAL = principal("token-1");
+
+  @Test
+  void eachChannelNumbersItsOwnEvents() {
+    ShiftEventChannel first = new ShiftEventChannel(8);
+    ShiftEventChannel second = new ShiftEventChannel(8);
+    RecordingEmitter firstEmitter = subscribe(first, null);
+    RecordingEmitter secondEmitter = subscribe(second, null);
+
+    first.publish("shift-changed", "{\"n\":1}");
+    first.publish("shift-changed", "{\"n\":2}");
+    second.publish("shift-changed", "{\"n\":3}");
+
+    assertThat(firstEmitter.ids()).extracting(ShiftEventChannelTest::sequenceOf).containsExactly("1", "2");
+    assertThat(secondEmitter.ids()).extracting(ShiftEventChannelTest::sequenceOf).containsExactly("1");
+  }
+
+  @Test
+  void reconnectReplaysEventsAfterLastEventId() {
+    ShiftEventChannel channel = new ShiftEventChannel(8);
+    RecordingEmitter before = subscribe(channel, null);
+    channel.publish("shift-changed", "{\"n\":1}");
+    channel.publish("shift-changed", "{\"n\":2}");
+    channel.publish("shift-changed", "{\"n\":3}");
+
+    RecordingEmitter reconnected = subscribe(channel, before.ids().get(0));
+
+    assertThat(reconnected.ids()).containsExactlyElementsOf(before.ids().subList(1, 3));
+    assertThat(reconnected.text()).doesNotContain("event:" + ShiftEventChannel.RESYNC_EVENT);
+  }
+
+  @Test
+  void unknownGenerationOrTrimmedHistoryGetsResync() {
+    ShiftEventChannel channel = new ShiftEventChannel(2);
+    RecordingEmitter before = subscribe(channel, null);
+    channel.publish("shift-changed", "{\"n\":1}");
+    channel.publish("shift-changed", "{\"n\":2}");
+    channel.publish("shift-changed", "{\"n\":3}");
+    channel.publish("shift-changed", "{\"n\":4}");
+
+    // 보관된 이벤트는 3, 4번뿐이라 1번 다음인 2번을 이어 줄 수 없다.
+    assertThat(subscribe(channel, before.ids().get(0)).text())
+        .contains("event:" + ShiftEventChannel.RESYNC_EVENT)
+        .doesNotContain("shift-changed");
+    // 재시작이나 다른 서버에서 받은 ID는 세대가 다르다.
+    assertThat(subscribe(channel, "other.4").text())
+        .contains("event:" + ShiftEventChannel.RESYNC_EVENT);
+    // 마지막 이벤트까지 받았다면 보낼 것이 없다.
+    assertThat(subscribe(channel, before.ids().get(3)).sent).isEmpty();
+  }
+
+  @Test
+  void closeIfCompletesOnlyMatchingSubscriptions() {
+    ShiftEventChannel channel = new ShiftEventChannel(8);
+    RecordingEmitter revoked = subscribe(channel, null);
+    RecordingEmitter active = new RecordingEmitter();
+    channel.subscribe(new ShiftEventSubscriber(active, Runnable::run, 8, () -> { }), principal("token-2"), null);
+
+    channel.closeIf(principal -> principal.getTokenId().equals("token-1"));
+    channel.publish("shift-changed", "{}");
+
+    assertThat(revoked.completed).isTrue();
+    assertThat(revoked.sent).isEmpty();
+    assertThat(active.completed).isFalse();
+    assertThat(active.sent).hasSize(1);
+  }
+
+  private static RecordingEmitter subscribe(ShiftEventChannel channel, String lastEventId) {
+    RecordingEmitter emitter = new RecordingEmitter();
+    channel.subscribe(new ShiftEventSubscriber(emitter, Runnable::run, 8, () -> { }), PRINCIPAL, lastEventId);
+    return emitter;
+  }
+
+  private static JwtPrincipal principal(String tokenId) {
+    Instant now = Instant.now();
+    return new JwtPrincipal(tokenId, 1L, "user@schedulebob.com", "employee", now, now.plusSeconds(600));
+  }
+
+  private static String sequenceOf(String id) {
+    return id.substring(id.indexOf('.') + 1);
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+
+    private final List<String> sent = new ArrayList<>();
+    private boolean completed;
+
+    @Override
+    public synchronized void send(Set<DataWithMediaType> items) {
+      items.forEach(item -> sent.add(new String((byte[]) item.getData(), StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public synchronized void complete() {
+      completed = true;
+    }
+
+    private String text() {
+      return String.join("", sent);
+    }
+
+    private List<String> ids() {
+      return sent.stream()
+          .filter(frame -> frame.startsWith("id:"))
+          .map(frame -> frame.substring(3, frame.indexOf('\n')))
+          .toList();
+    }
+  }
+}
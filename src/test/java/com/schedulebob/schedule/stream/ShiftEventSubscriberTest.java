@@ -0,0 +1,90 @@
+package com.schedulebob.schedule.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 구독자 버퍼가 가득 차면 오래된 프레임부터 버리고, 같은 프레임 인스턴스를 그대로 전송하는지,
+ * 하트비트가 미전송 이벤트를 밀어내지 않는지 검증하는 테스트.
+ */
+class ShiftEventSubscriberTest {
+
+  private final Queue<Runnable> pendingSends = new ArrayDeque<>();
+  private final AtomicInteger dropped = new AtomicInteger();
+
+  @Test
+  void fullBufferDropsOldestFrames() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    ShiftEventSubscriber subscriber =
+        new ShiftEventSubscriber(emitter, pendingSends::add, 2, dropped::incrementAndGet);
+    List<Set<DataWithMediaType>> frames = List.of(frame("1"), frame("2"), frame("3"), frame("4"));
+
+    // 전송 작업이 돌기 전에 프레임 네 개가 들어오면 최근 두 개만 남는다.
+    frames.forEach(subscriber::offer);
+    assertThat(pendingSends).hasSize(1);
+    pendingSends.poll().run();
+
+    assertThat(emitter.sent).containsExactly(frames.get(2), frames.get(3));
+    assertThat(dropped).hasValue(2);
+  }
+
+  @Test
+  void heartbeatSkipsBusySubscriber() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    ShiftEventSubscriber subscriber =
+        new ShiftEventSubscriber(emitter, pendingSends::add, 2, dropped::incrementAndGet);
+    Set<DataWithMediaType> heartbeat = frame("heartbeat");
+    List<Set<DataWithMediaType>> frames = List.of(frame("1"), frame("2"));
+
+    // 버퍼가 찬 상태의 하트비트는 이벤트를 밀어내지 않고 건너뛴다.
+    frames.forEach(subscriber::offer);
+    subscriber.offerIfIdle(heartbeat);
+    pendingSends.poll().run();
+    assertThat(emitter.sent).containsExactlyElementsOf(frames);
+    assertThat(dropped).hasValue(0);
+
+    // 보낼 것이 없을 때는 하트비트를 보낸다.
+    subscriber.offerIfIdle(heartbeat);
+    pendingSends.poll().run();
+    assertThat(emitter.sent).last().isSameAs(heartbeat);
+  }
+
+  @Test
+  void closedSubscriberIgnoresFrames() {
+    RecordingEmitter emitter = new RecordingEmitter();
+    ShiftEventSubscriber subscriber =
+        new ShiftEventSubscriber(emitter, pendingSends::add, 2, dropped::incrementAndGet);
+
+    subscriber.close();
+    subscriber.offer(frame("1"));
+
+    assertThat(pendingSends).isEmpty();
+    assertThat(emitter.sent).isEmpty();
+  }
+
+  private static Set<DataWithMediaType> frame(String id) {
+    byte[] bytes = ("id:" + id + "\n\n").getBytes(StandardCharsets.UTF_8);
+    return Set.of(new DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+
+    private final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+
+    @Override
+    public synchronized void send(Set<DataWithMediaType> items) {
+      sent.add(items);
+    }
+  }
+}